@@ -0,0 +1,43 @@
+package hong.postService.web.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 인증 비용 비교
+ *
+ * - cold: 매 요청마다 서명 검증 + claim 디코딩 (JwtUtil.parse)
+ * - warm: 이미 검증한 토큰을 VerifiedTokenCache에서 조회 (digest 계산 + 캐시 hit)
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalHongfjdkfjd");
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000);
+        token = jwtUtil.createJwt(1L, "user", "ROLE_USER", 60 * 60 * 1000L);
+
+        verifiedTokenCache.getOrParse(token);
+    }
+
+    @Benchmark
+    public JwtClaims cold() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public JwtClaims warm() {
+        return verifiedTokenCache.getOrParse(token);
+    }
+}
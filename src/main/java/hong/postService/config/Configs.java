@@ -1,17 +1,23 @@
 package hong.postService.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class Configs {
 
-    @Bean
-    public BCryptPasswordEncoder encodePwd() {
-        return new BCryptPasswordEncoder();
+    //BCrypt 연산은 전용 풀에서 코어 수만큼만 동시에 수행 (MemberService, 로그인 AuthenticationManager 공용)
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder encodePwd(MeterRegistry meterRegistry,
+                                     @Value("${security.password-hash.queue-capacity:64}") int queueCapacity) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -4,6 +4,8 @@ import hong.postService.service.userDetailsService.CustomOAuth2UserService;
 import hong.postService.web.jwt.JwtAuthenticationFilter;
 import hong.postService.web.jwt.JwtFilter;
 import hong.postService.web.jwt.JwtUtil;
+import hong.postService.web.jwt.SecurityJsonMapper;
+import hong.postService.web.jwt.VerifiedTokenCache;
 import hong.postService.web.oauth2.CustomAuthenticationEntryPoint;
 import hong.postService.web.oauth2.CustomSuccessHandler;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +32,8 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SecurityJsonMapper securityJsonMapper;
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
@@ -69,6 +73,8 @@ public class SecurityConfig {
 
                         configuration.setExposedHeaders(Collections.singletonList("Set-Cookie"));
                         configuration.setExposedHeaders(Collections.singletonList("Authorization"));
+                        //멀티파트 파트 업로드 응답의 ETag (로컬 스토리지)
+                        configuration.addExposedHeader("ETag");
 
                         return configuration;
                     }
@@ -99,6 +105,10 @@ public class SecurityConfig {
 
                 .requestMatchers(HttpMethod.POST, "/v2/files/**").authenticated()
 
+                // 로컬 스토리지 presign URL은 URL 서명으로 검증
+                .requestMatchers(HttpMethod.GET, "/v2/storage/objects").permitAll()
+                .requestMatchers(HttpMethod.PUT, "/v2/storage/objects").permitAll()
+
                 // 회원 관련 조회 및 수정, 삭제는 인증 필요
                 .requestMatchers("/v2/users/me/**").authenticated()
 
@@ -110,12 +120,12 @@ public class SecurityConfig {
         );
 
         //JwtAuthenticationFilter 등록
-        JwtAuthenticationFilter authenticationFilter = new JwtAuthenticationFilter(authenticationManager(authenticationConfiguration), jwtUtil);
+        JwtAuthenticationFilter authenticationFilter = new JwtAuthenticationFilter(authenticationManager(authenticationConfiguration), jwtUtil, securityJsonMapper);
         authenticationFilter.setFilterProcessesUrl("/v2/users/login");
         http.addFilterAt(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         //JwtFilter 등록
-        http.addFilterBefore(new JwtFilter(jwtUtil), JwtAuthenticationFilter.class);
+        http.addFilterBefore(new JwtFilter(verifiedTokenCache, securityJsonMapper), JwtAuthenticationFilter.class);
 
         //Session stateless로 설정
         http.sessionManagement((sc) -> sc
@@ -0,0 +1,38 @@
+package hong.postService.config;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import hong.postService.storage.LocalObjectStorage;
+import hong.postService.storage.ObjectStorage;
+import hong.postService.storage.S3ObjectStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * storage.type에 따라 ObjectStorage 구현을 선택
+ *
+ * - s3 (기본): cloud.aws.* 설정의 S3 버킷
+ * - local: storage.local.root 디렉토리, presign URL은 storage.local.base-url 기준으로 발급
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+    public ObjectStorage s3ObjectStorage(AmazonS3Client amazonS3Client,
+                                         @Value("${cloud.aws.s3.bucket}") String bucket) {
+        return new S3ObjectStorage(amazonS3Client, bucket);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "local")
+    public LocalObjectStorage localObjectStorage(@Value("${storage.local.root:./storage}") String root,
+                                                 @Value("${storage.local.base-url:http://localhost:8080}") String baseUrl,
+                                                 @Value("${storage.local.secret}") String secret) {
+        return new LocalObjectStorage(Path.of(root), baseUrl, secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,6 +5,8 @@ import hong.postService.exception.comment.CommentNotFoundException;
 import hong.postService.exception.comment.InvalidCommentFieldException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,10 +14,20 @@ import java.util.List;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_id_path", columnList = "post_id, path"),
+        @Index(name = "idx_comment_post_id_created_date_id", columnList = "post_id, created_date, comment_id"),
+        @Index(name = "idx_comment_parent_id_created_date_id", columnList = "parent_comment_id, created_date, comment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Comment extends BaseTimeEntity {
 
+    //path 한 단계 = base36 고정 폭 ID + "/" (고정 폭이라 문자열 순서가 ID 순서와 같음)
+    private static final int PATH_SEGMENT_ID_LENGTH = 8;
+    private static final int PATH_SEGMENT_LENGTH = PATH_SEGMENT_ID_LENGTH + 1;
+    private static final int PATH_LENGTH = 600;
+
     @Id @GeneratedValue
     @Column(name = "comment_id")
     private Long id;
@@ -40,11 +52,33 @@ public class Comment extends BaseTimeEntity {
     @OneToMany(mappedBy = "parentComment")
     private List<Comment> childComments = new ArrayList<>();
 
+    /*
+    - materialized path: 루트 댓글부터 자신까지의 ID를 이은 값 (예: 0000002s/0000003k/)
+    - path 순서가 곧 트리의 DFS 순서이고, 서브트리는 같은 게시글 안의 path prefix 범위 조회 한 번으로 읽음
+    - ID가 있어야 만들 수 있으므로 저장 후 assignPath로 채움
+      (persist 시점의 값으로 INSERT되므로 flush 시 dirty checking으로 path UPDATE가 한 번 더 실행됨)
+    - path 도입 이전 댓글은 DataMigrationRunner가 요청을 받기 전에 부모부터 채움
+      (깊이 제한을 넘는 댓글만 비어있고, 트리 조회에서 제외되며 삭제는 CommentService가 부모 링크를 따라 처리)
+     */
+    @Column(length = PATH_LENGTH)
+    private String path;
+
+    /*
+    - 삭제되지 않은 직속 대댓글 수 (목록에서 펼칠 수 있는 댓글인지 추가 조회 없이 판단하기 위한 비정규화 카운터)
+    - Post.commentCount와 같이 DB 값은 Repository의 원자적 증감 쿼리(addReplyCount)로만 변경하고, 엔티티 필드는 같은 변화를 메모리에 반영
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int replyCount;
+
     //생성---------------------------------------------------------------------------------------------------
     public Comment writeReply(String content, Member writer) {
         validateComment();
         if (content == null) throw new InvalidCommentFieldException("writeReply: content == null");
         if (writer == null) throw new InvalidCommentFieldException("writeComment: writer == null");
+        if (path != null && path.length() + PATH_SEGMENT_LENGTH > PATH_LENGTH) {
+            throw new InvalidCommentFieldException("writeReply: 대댓글 깊이 제한 초과");
+        }
 
         Comment childComment = Comment.builder()
                 .content(content)
@@ -54,12 +88,35 @@ public class Comment extends BaseTimeEntity {
                 .parentComment(this)
                 .build();
 
-        this.childComments.add(childComment);
-        writer.getComments().add(childComment);
+        InverseCollections.addIfLoaded(this, Comment::getChildComments, childComment);
+        this.replyCount++;
+        InverseCollections.addIfLoaded(writer, Member::getComments, childComment);
+        //post가 프록시면 카운터를 위해 게시글을 읽지 않음 (DB 값은 addCommentCount로 갱신)
+        if (Hibernate.isInitialized(this.post)) this.post.increaseCommentCount();
 
         return  childComment;
     }
 
+    /**
+     * 저장으로 ID가 정해진 뒤 path를 채웁니다. (부모 댓글에 path가 없거나 깊이 제한을 넘으면 비워둠)
+     */
+    public void assignPath() {
+        if (this.id == null) throw new IllegalStateException("assignPath: 저장 전 댓글");
+        if (this.path != null) return;
+
+        String parentPath = parentComment == null ? "" : parentComment.getPath();
+        if (parentPath == null || parentPath.length() + PATH_SEGMENT_LENGTH > PATH_LENGTH) return;
+
+        this.path = parentPath + pathSegment(this.id);
+    }
+
+    private static String pathSegment(Long id) {
+        String encoded = Long.toString(id, 36);
+        if (encoded.length() > PATH_SEGMENT_ID_LENGTH) throw new IllegalStateException("pathSegment: ID가 path 폭을 넘음");
+
+        return "0".repeat(PATH_SEGMENT_ID_LENGTH - encoded.length()) + encoded + "/";
+    }
+
 //업데이트---------------------------------------------------------------------------------------------------
 
     public void updateContent(String newContent) {
@@ -68,21 +125,16 @@ public class Comment extends BaseTimeEntity {
         this.content = newContent;
     }
 
+    /**
+     * 댓글 한 건만 삭제 상태로 바꿉니다.
+     * 대댓글 서브트리와 게시글/부모 댓글의 카운터는 CommentService.delete가 bulk update로 함께 처리합니다.
+     */
     public void remove() {
         validateComment();
-        removeChildComments();
 
         this.content = "";
         this.isRemoved = true;
     }
-
-    private void removeChildComments() {
-        for (Comment child : childComments) {
-            if (!child.isRemoved()) {
-                child.remove();
-            }
-        }
-    }
 //검증---------------------------------------------------------------------------------------------------
 
     private void validateComment() {
@@ -0,0 +1,49 @@
+package hong.postService.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행해야 하는 데이터 backfill의 적용 기록
+ *
+ * - name이 PK라 여러 인스턴스가 동시에 시작해도 한 인스턴스만 기록(INSERT)에 성공하고 backfill을 실행함
+ * - 항상 새 row이므로 save 시 merge(select)를 거치지 않고 바로 persist (Persistable.isNew)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigration implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+
+    private DataMigration(String name, LocalDateTime appliedAt) {
+        this.name = name;
+        this.appliedAt = appliedAt;
+    }
+
+    public static DataMigration applied(String name) {
+        return new DataMigration(name, LocalDateTime.now());
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -11,6 +11,10 @@ import java.util.UUID;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_file_is_removed_id", columnList = "is_removed, file_id"),
+        @Index(name = "idx_file_blob_id_id", columnList = "file_blob_id, file_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class File extends BaseTimeEntity{
@@ -34,6 +38,11 @@ public class File extends BaseTimeEntity{
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    //중복 제거 모드에서 실제 바이트를 가진 blob (없으면 s3Key의 오브젝트를 직접 사용)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_blob_id")
+    private FileBlob blob;
+
 
 //Static Utility 로직---------------------------------------------------------------------------------------------------
 
@@ -87,6 +96,20 @@ public class File extends BaseTimeEntity{
         this.s3Key = newS3Key;
     }
 
+    public void linkBlob(FileBlob blob) {
+        checkNotRemoved();
+        if (blob == null) throw new InvalidFileFieldException("linkBlob: blob == null");
+
+        this.blob = blob;
+    }
+
+    /**
+     * 실제 바이트가 저장된 스토리지 키 (다운로드/ZIP/삭제 시 사용)
+     */
+    public String getStorageKey() {
+        return blob != null ? blob.getStorageKey() : s3Key;
+    }
+
     public void remove() {
         checkNotRemoved();
 
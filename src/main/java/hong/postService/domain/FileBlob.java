@@ -0,0 +1,49 @@
+package hong.postService.domain;
+
+import hong.postService.domain.baseEntity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용(SHA-256)이 같은 첨부 파일들이 함께 가리키는 스토리지 오브젝트 (file.dedup.enabled=true일 때만 사용)
+ *
+ * - File row는 논리 키(s3Key)를 그대로 갖고, 실제 바이트는 blob의 storageKey에서 읽음
+ * - refCount는 이 blob을 가리키는 File row 수 (soft delete된 row 포함, purge로 row가 지워질 때 감소)
+ * - storageKey는 이 내용으로 처음 연결된 파일의 최종 오브젝트 (복사 없이 그대로 사용, 해시는 키에 넣지 않음)
+ *   -> 그 파일이 삭제되어도 다른 파일이 참조하는 동안은 오브젝트가 남고, refCount가 0이 될 때만 삭제
+ *   -> 최종 s3Key는 파일마다 새로 발급되므로, 삭제 요청된 오브젝트와 같은 내용으로 다시 만들어진 blob의 오브젝트가 겹치지 않음
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileBlob extends BaseTimeEntity {
+
+    @Id @GeneratedValue
+    @Column(name = "file_blob_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    @Column(nullable = false, unique = true)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    private FileBlob(String sha256, String storageKey, long size, int refCount) {
+        this.sha256 = sha256;
+        this.storageKey = storageKey;
+        this.size = size;
+        this.refCount = refCount;
+    }
+
+    public static FileBlob of(String sha256, String storageKey, long size, int refCount) {
+        return new FileBlob(sha256, storageKey, size, refCount);
+    }
+}
@@ -0,0 +1,26 @@
+package hong.postService.domain;
+
+import org.hibernate.Hibernate;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 양방향 연관관계의 반대편(mappedBy) 컬렉션 갱신
+ *
+ * - DB 반영은 FK를 가진 쪽(Comment.writer, Comment.post, Post.writer ...)만으로 충분
+ * - 반대편 컬렉션은 이미 메모리에 로딩된 경우에만 추가하고, 프록시나 지연 로딩 컬렉션은 초기화하지 않음
+ *   -> 댓글 하나를 쓰는 데 회원/게시글의 전체 댓글을 읽지 않음 (로딩되지 않은 컬렉션은 나중에 DB에서 읽을 때 반영됨)
+ */
+final class InverseCollections {
+
+    private InverseCollections() {
+    }
+
+    static <O, T> void addIfLoaded(O owner, Function<O, List<T>> collection, T element) {
+        if (owner == null || !Hibernate.isInitialized(owner)) return;
+
+        List<T> elements = collection.apply(owner);
+        if (Hibernate.isInitialized(elements)) elements.add(element);
+    }
+}
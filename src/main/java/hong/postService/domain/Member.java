@@ -194,7 +194,7 @@ public class Member extends BaseTimeEntity {
                 .writer(this)
                 .build();
 
-        this.getPosts().add(post);
+        InverseCollections.addIfLoaded(this, Member::getPosts, post);
 
         return post;
     }
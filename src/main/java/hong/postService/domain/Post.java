@@ -8,6 +8,7 @@ import hong.postService.exception.post.PostNotFoundException;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.List;
 @Getter
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_post_created_date_id", columnList = "created_date, post_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Post extends BaseTimeEntity {
@@ -50,6 +52,19 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private int filesRevision = 0;
 
+    /*
+    - 목록 조회 시 댓글 수/파일 존재 여부를 서브쿼리 없이 읽기 위한 비정규화 카운터 (삭제되지 않은 댓글/파일 수)
+    - 동시 댓글 작성 시 lost update를 막기 위해 Dirty Checking으로는 쓰지 않음 (insertable/updatable = false)
+    - DB 값은 Repository의 원자적 증감 쿼리(addCommentCount, addFileCount)로만 변경하고, 엔티티 필드는 같은 변화를 메모리에 반영
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int fileCount;
+
 
 //비즈니스 로직---------------------------------------------------------------------------------------------------
 
@@ -65,15 +80,34 @@ public class Post extends BaseTimeEntity {
         this.content = newContent;
     }
 
+    /**
+     * 게시글만 삭제 상태로 바꿉니다. 댓글/파일은 엔티티로 읽지 않고 PostService.delete가 bulk update로 함께 삭제합니다.
+     */
     public void remove() {
         checkNotRemoved();
 
-        removeComments();
-        removeFiles();
-
         this.title = "";
         this.content = "";
         this.isRemoved = true;
+        this.commentCount = 0;
+        this.fileCount = 0;
+    }
+
+    /**
+     * 첨부 파일이 붙을 때까지 게시글을 숨깁니다. (저장 전에만 호출)
+     * 숨긴 동안은 삭제된 게시글과 같이 목록/상세 조회, 검색, 댓글 작성에서 제외됩니다.
+     */
+    public void hide() {
+        if (this.id != null) throw new IllegalStateException("hide: 이미 저장된 게시글");
+        this.isRemoved = true;
+    }
+
+    /**
+     * 숨겨둔 게시글을 공개합니다. (첨부 파일 저장과 같은 트랜잭션에서 호출)
+     */
+    public void publish() {
+        if (!this.isRemoved) throw new IllegalStateException("publish: 이미 공개된 게시글");
+        this.isRemoved = false;
     }
 
 //Comment 작성---------------------------------------------------------------------------------------------------
@@ -92,8 +126,9 @@ public class Post extends BaseTimeEntity {
                 .parentComment(null)
                 .build();
 
-        writer.getComments().add(comment);
-        this.getComments().add(comment);
+        InverseCollections.addIfLoaded(writer, Member::getComments, comment);
+        InverseCollections.addIfLoaded(this, Post::getComments, comment);
+        this.commentCount++;
 
         return comment;
     }
@@ -116,6 +151,7 @@ public class Post extends BaseTimeEntity {
 
         this.files.add(file);
         this.filesRevision++;
+        this.fileCount++;
 
         return file;
     }
@@ -128,27 +164,22 @@ public class Post extends BaseTimeEntity {
         if (!file.isRemoved()) {
             file.remove();
             this.filesRevision++;
+            this.fileCount--;
         }
     }
 
-    //내부 로직---------------------------------------------------------------------------------------------------
-    private void checkNotRemoved() {
-        if (this.isRemoved()) throw new PostNotFoundException(this.getId());
-    }
+    //카운터---------------------------------------------------------------------------------------------------
 
-    private void removeComments() {
-        for (Comment comment : comments) {
-            if (!comment.isRemoved()) {
-                comment.remove();
-            }
-        }
+    /**
+     * 대댓글 작성 시 Comment에서 호출 (Comment.post가 프록시일 수 있기 때문에 public)
+     * 삭제로 인한 감소는 bulk update 후 addCommentCount로만 반영
+     */
+    public void increaseCommentCount() {
+        this.commentCount++;
     }
 
-    private void removeFiles() {
-        for (File file : files) {
-            if (!file.isRemoved()) {
-                file.remove();
-            }
-        }
+    //내부 로직---------------------------------------------------------------------------------------------------
+    private void checkNotRemoved() {
+        if (this.isRemoved()) throw new PostNotFoundException(this.getId());
     }
 }
@@ -0,0 +1,72 @@
+package hong.postService.domain;
+
+import hong.postService.domain.baseEntity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 스토리지 오브젝트 삭제 outbox
+ *
+ * - File 변경과 같은 트랜잭션에서 저장하고, StorageDeleteDispatcher가 백그라운드에서 실제 삭제 수행
+ * - 삭제에 성공한 row만 지우고, 실패하면 지수 backoff로 nextAttemptAt을 미뤄 재시도 (삭제 요청이 유실되지 않음)
+ * - 처리 중인 row는 nextAttemptAt을 lease 시각으로 미뤄두어, 처리 도중 서버가 죽어도 lease가 끝나면 다시 처리됨
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_storage_delete_outbox_next_attempt_at", columnList = "next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageDeleteOutbox extends BaseTimeEntity {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id @GeneratedValue
+    @Column(name = "storage_delete_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private StorageDeleteOutbox(String storageKey, LocalDateTime nextAttemptAt) {
+        this.storageKey = storageKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static StorageDeleteOutbox of(String storageKey) {
+        return new StorageDeleteOutbox(storageKey, LocalDateTime.now());
+    }
+
+//비즈니스 로직---------------------------------------------------------------------------------------------------
+
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void failed(String error, LocalDateTime now) {
+        this.attempts++;
+        this.nextAttemptAt = now.plus(backoff(attempts));
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    //10초, 20초, 40초 ... 최대 1시간
+    static Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << shift);
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,8 @@
+package hong.postService.exception.cursor;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
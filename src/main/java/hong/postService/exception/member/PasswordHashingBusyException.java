@@ -0,0 +1,8 @@
+package hong.postService.exception.member;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
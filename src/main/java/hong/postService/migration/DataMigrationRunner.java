@@ -0,0 +1,114 @@
+package hong.postService.migration;
+
+import hong.postService.domain.Comment;
+import hong.postService.domain.DataMigration;
+import hong.postService.repository.commentRepository.v2.CommentRepository;
+import hong.postService.repository.migrationRepository.v2.DataMigrationRepository;
+import hong.postService.repository.postRepository.v2.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 비정규화 컬럼 등 기존 데이터를 채워야 하는 변경의 1회성 backfill
+ *
+ * - 모든 빈 생성 직후(SmartInitializingSingleton), 웹 서버가 요청을 받기 전에 아직 적용되지 않은 backfill만 순서대로 실행
+ *   -> 요청은 항상 backfill이 끝난 데이터를 봄
+ * - backfill은 ID 범위/배치 단위의 짧은 트랜잭션으로 나눠 커밋하고, 모두 끝난 뒤 DataMigration에 기록
+ *   -> 중간에 실패하면 기록이 없으므로 다음 시작 때 처음부터 다시 실행 (각 backfill은 여러 번 실행해도 결과가 같음)
+ * - 동시에 시작한 다른 인스턴스가 같은 backfill을 실행해도 결과가 같고, 기록 INSERT의 PK 충돌은 무시
+ * - backfill이 실패하면 잘못된 데이터로 요청을 받지 않도록 시작 자체를 실패시킴
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataMigrationRepository dataMigrationRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        //게시글 댓글 수/파일 수 카운터 도입 이전 게시글
+        apply("post-counters", () -> inIdRanges(postRepository.findMaxId(), postRepository::recountCounters));
+        //댓글 직속 대댓글 수 카운터 도입 이전 댓글
+        apply("comment-reply-counts", () -> inIdRanges(commentRepository.findMaxId(), commentRepository::recountReplyCounts));
+        //materialized path 도입 이전 댓글 (트리 조회/서브트리 삭제가 path 범위를 사용)
+        apply("comment-paths", this::backfillCommentPaths);
+    }
+
+    /*
+    - ID 범위 (afterId, toId]를 BATCH_SIZE씩 나눠 범위마다 별도 트랜잭션으로 실행 (한 트랜잭션이 테이블 전체를 잠그지 않도록)
+     */
+    private int inIdRanges(long maxId, IdRangeUpdate update) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int updated = 0;
+
+        for (long afterId = 0; afterId < maxId; afterId += BATCH_SIZE) {
+            long from = afterId;
+            long to = Math.min(afterId + BATCH_SIZE, maxId);
+            updated += transaction.execute(status -> update.apply(from, to));
+        }
+        return updated;
+    }
+
+    /*
+    - ID 순서로 BATCH_SIZE개씩 읽어 assignPath (부모가 먼저 처리되므로 한 번 훑으면 모두 채워짐)
+    - 배치마다 별도 트랜잭션 -> 커밋과 함께 영속성 컨텍스트가 비워져 댓글 수와 무관하게 메모리 사용량이 일정
+     */
+    private int backfillCommentPaths() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        int assigned = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Comment> comments = transaction.execute(status -> {
+                List<Comment> batch = commentRepository.findPathlessAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(Comment::assignPath);
+                return batch;
+            });
+            if (comments.isEmpty()) return assigned;
+
+            for (Comment comment : comments) {
+                if (comment.getPath() != null) assigned++;
+            }
+            lastId = comments.get(comments.size() - 1).getId();
+        }
+    }
+
+    private void apply(String name, IntSupplier backfill) {
+        if (dataMigrationRepository.existsById(name)) return;
+
+        int updated;
+        try {
+            updated = backfill.getAsInt();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("data migration 실패, 다음 시작 때 다시 실행: name=" + name, e);
+        }
+
+        try {
+            dataMigrationRepository.saveAndFlush(DataMigration.applied(name));
+        } catch (DataIntegrityViolationException e) {
+            log.info("data migration을 다른 인스턴스가 먼저 기록함: name={}", name);
+        }
+        log.info("data migration 적용 완료: name={}, updated={}", name, updated);
+    }
+
+    @FunctionalInterface
+    private interface IdRangeUpdate {
+        int apply(long afterId, long toId);
+    }
+}
@@ -0,0 +1,42 @@
+package hong.postService.repository.blobRepository.v2;
+
+import hong.postService.domain.FileBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부 파일 blob Repository API
+ *
+ * Create
+ *     FileBlob saveAndFlush(blob) - 처음 올라온 내용의 blob 저장 (sha256 unique로 동시 생성 감지)
+ *
+ * Read
+ *     Optional<FileBlob> findBySha256(sha256) - 중복 제거 시 이미 있는 내용 조회
+ *     List<FileBlob> findUnreferencedForUpdate(ids) - purge 후 참조가 없어진 blob을 잠그고 조회
+ *
+ * Update
+ *     int addRefCount(id, delta) - 참조 수 원자적 증감
+ *
+ * Delete
+ *     void deleteAllInBatch(blobs) - 참조가 없어진 blob 삭제 (오브젝트 삭제는 outbox로)
+ */
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findBySha256(String sha256);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from FileBlob b where b.id in :ids and b.refCount <= 0")
+    List<FileBlob> findUnreferencedForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update FileBlob b set b.refCount = b.refCount + :delta where b.id = :id")
+    int addRefCount(@Param("id") Long id, @Param("delta") int delta);
+}
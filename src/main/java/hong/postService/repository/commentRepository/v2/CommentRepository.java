@@ -5,9 +5,13 @@ import hong.postService.domain.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +28,22 @@ import java.util.Optional;
  *
  *      Page<Comment> findAllByParentCommentAndIsRemovedFalse(parentComment, pageable) - 대댓글 목록 페이징 조회
  *      List<Comment> findAllByParentCommentAndIsRemovedFalse(parentComment) - 대댓글 목록 단순 조회
+ *      List<Comment> findFirstByPost(postId, limit) / findByPostAfter(postId, createdDate, id, limit) - 게시글 댓글 목록 커서(keyset) 조회 (count 쿼리 없음)
+ *      List<Comment> findFirstByParent(parentId, limit) / findByParentAfter(parentId, createdDate, id, limit) - 대댓글 목록 커서(keyset) 조회 (count 쿼리 없음)
+ *
+ *      List<Long> findLiveChildIds(parentIds) - path가 없는 이전 댓글의 서브트리를 한 단계씩 내려가며 ID만 조회
+ *      List<Comment> findThread(postId) - 게시글의 댓글 트리 전체를 path 순서로 조회
+ *      List<Comment> findSubtree(postId, path) - 댓글 서브트리를 path prefix 범위로 조회
+ *      List<Comment> findPathlessAfter(lastId, limit) - path 도입 이전 댓글을 부모와 함께 ID 순서로 조회 (1회성 backfill)
+ *      boolean existsByPostIdAndPathIsNullAndIsRemovedFalse(postId) - 서브트리 삭제에 path prefix 범위를 써도 되는지 확인
+ *
+ * Update
+ *      int addReplyCount(commentId, delta) - 대댓글 작성/삭제 시 직속 대댓글 수 카운터 증감
+ *      long findMaxId() - 1회성 backfill을 ID 범위로 나눌 때
+ *      int recountReplyCounts(afterId, toId) - 카운터 도입 이전 댓글의 직속 대댓글 수를 실제 row 수로 다시 계산 (1회성 backfill, ID 범위 단위)
+ *      int softDeleteAllByPostId(postId, now) - 게시글 삭제 시 댓글 전체 soft delete (bulk update)
+ *      int softDeleteSubtree(postId, path, now) - 댓글 서브트리 soft delete (path prefix 범위 bulk update)
+ *      int softDeleteAllByIdIn(ids, now) - path가 없는 이전 댓글의 서브트리 soft delete (bulk update)
  *
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -37,4 +57,87 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query(value = "select c from Comment c left join fetch c.writer where c.parentComment = :parentComment and c.isRemoved = false",
             countQuery = "select count(c) from Comment c where c.parentComment = :parentComment and c.isRemoved = false")
     Page<Comment> findAllByParentCommentAndIsRemovedFalse(@Param("parentComment") Comment parentComment, Pageable pageable);
+
+    /*
+    - (createdDate, id) 오름차순 keyset: 커서 이후 행부터 limit개만 읽으므로 페이지 깊이와 무관하게 비용이 일정
+    - 첫 페이지는 커서가 없으므로 조건 없이 조회
+    - (post_id|parent_comment_id, created_date, comment_id) 인덱스를 사용
+     */
+    @Query("select c from Comment c left join fetch c.writer where c.post.id = :postId and c.isRemoved = false order by c.createdDate asc, c.id asc")
+    List<Comment> findFirstByPost(@Param("postId") Long postId, Pageable limit);
+
+    @Query("select c from Comment c left join fetch c.writer where c.post.id = :postId and c.isRemoved = false" +
+            " and (c.createdDate > :createdDate or (c.createdDate = :createdDate and c.id > :id))" +
+            " order by c.createdDate asc, c.id asc")
+    List<Comment> findByPostAfter(@Param("postId") Long postId,
+                                  @Param("createdDate") LocalDateTime createdDate,
+                                  @Param("id") Long id,
+                                  Pageable limit);
+
+    @Query("select c from Comment c left join fetch c.writer where c.parentComment.id = :parentId and c.isRemoved = false order by c.createdDate asc, c.id asc")
+    List<Comment> findFirstByParent(@Param("parentId") Long parentId, Pageable limit);
+
+    @Query("select c from Comment c left join fetch c.writer where c.parentComment.id = :parentId and c.isRemoved = false" +
+            " and (c.createdDate > :createdDate or (c.createdDate = :createdDate and c.id > :id))" +
+            " order by c.createdDate asc, c.id asc")
+    List<Comment> findByParentAfter(@Param("parentId") Long parentId,
+                                    @Param("createdDate") LocalDateTime createdDate,
+                                    @Param("id") Long id,
+                                    Pageable limit);
+
+    @Query("select c.id from Comment c where c.parentComment.id in :parentIds and c.isRemoved = false")
+    List<Long> findLiveChildIds(@Param("parentIds") Collection<Long> parentIds);
+
+    /*
+    - (post_id, path) 인덱스 범위 조회 한 번으로 트리 전체/서브트리를 DFS 순서로 읽음
+    - path 문자는 [0-9a-z/]뿐이라 like prefix에 와일드카드가 섞이지 않음
+     */
+    @Query("select c from Comment c left join fetch c.writer where c.post.id = :postId and c.path is not null and c.isRemoved = false order by c.path asc")
+    List<Comment> findThread(@Param("postId") Long postId);
+
+    @Query("select c from Comment c left join fetch c.writer where c.post.id = :postId and c.path like concat(:path, '%') and c.isRemoved = false order by c.path asc")
+    List<Comment> findSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    //부모는 항상 자식보다 먼저 만들어져 ID가 작으므로, ID 순서로 채우면 부모의 path가 먼저 정해짐
+    @Query("select c from Comment c left join fetch c.parentComment where c.path is null and c.id > :lastId order by c.id asc")
+    List<Comment> findPathlessAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    //(post_id, path) 인덱스로 확인
+    boolean existsByPostIdAndPathIsNullAndIsRemovedFalse(Long postId);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id = :commentId")
+    int addReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Query("select coalesce(max(c.id), 0) from Comment c")
+    long findMaxId();
+
+    /*
+    - 같은 테이블을 갱신하면서 읽기 때문에 group by 파생 테이블로 먼저 집계 (MySQL은 갱신 대상 테이블의 직접 서브쿼리를 허용하지 않음)
+    - DataMigrationRunner에서 한 번만 실행하며, ID 범위 (afterId, toId] 단위로 나눠 호출 (집계도 같은 범위의 부모만)
+     */
+    @Modifying
+    @Query(value = "update comment set reply_count = coalesce((select r.cnt from " +
+            "(select parent_comment_id, count(*) as cnt from comment " +
+            "where parent_comment_id > :afterId and parent_comment_id <= :toId and is_removed = false group by parent_comment_id) r " +
+            "where r.parent_comment_id = comment.comment_id), 0) " +
+            "where comment_id > :afterId and comment_id <= :toId",
+            nativeQuery = true)
+    int recountReplyCounts(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    /*
+    - bulk update는 영속성 컨텍스트를 거치지 않으므로, 실행 전 flush하고 실행 후 비워서 이전 상태의 엔티티가 남지 않게 함
+    - soft delete 시각은 lastModifiedDate (Auditing을 거치지 않으므로 직접 지정)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.isRemoved = true, c.content = '', c.lastModifiedDate = :now where c.post.id = :postId and c.isRemoved = false")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.isRemoved = true, c.content = '', c.lastModifiedDate = :now where c.post.id = :postId and c.path like concat(:path, '%') and c.isRemoved = false")
+    int softDeleteSubtree(@Param("postId") Long postId, @Param("path") String path, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.isRemoved = true, c.content = '', c.lastModifiedDate = :now where c.id in :ids and c.isRemoved = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -2,12 +2,17 @@ package hong.postService.repository.fileRepository.v2;
 
 import hong.postService.domain.File;
 import hong.postService.domain.Post;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,11 +27,20 @@ import java.util.Optional;
  *     Optional<File> findByIdAndIsRemovedFalse(id)
  *     Optional<File> findByS3KeyAndIsRemovedFalse(String s3Key)
  *     Optional<File> findByStoredFileNameAndIsRemovedFalse(String storedFileName)
+ *     List<String> findExistingS3Keys(s3Keys) - 첨부 검증 시 이미 사용 중인 s3Key를 IN 쿼리 한 번으로 조회
  *
  *     List<File> findAllByPostIdAndIsRemovedFalse(Post post)
+ *     List<File> findAllLiveWithPost(postId) - 게시글의 다운로드 URL 일괄 발급 시 (게시글, blob까지 한 번에 조회)
+ *     List<File> findPurgeTargets(threshold, afterId, pageable) - 유예 기간이 지난 soft delete 파일 keyset 조회
+ *     List<File> findUnlinkedAfter(afterId, pageable) - 중복 제거 모드에서 아직 blob에 연결되지 않은 파일 keyset 조회
+ *     Optional<File> findUnlinkedForUpdate(id) - blob 연결 직전 파일 row를 잠그고 다시 확인
+ *
+ * Update
+ *     int softDeleteAllByPostId(postId, now) - 게시글 삭제 시 파일 전체 soft delete (bulk update, 오브젝트는 purge에서 삭제)
  *
  * Delete
  *     void delete(file)
+ *     int deleteRemovedByIdIn(ids) - purge 대상 파일 row hard delete (오브젝트 삭제는 outbox로)
  */
 public interface FileRepository extends JpaRepository<File, Long> {
 
@@ -34,8 +48,38 @@ public interface FileRepository extends JpaRepository<File, Long> {
     Optional<File> findByS3KeyAndIsRemovedFalse(String s3Key);
     Optional<File> findByStoredFileNameAndIsRemovedFalse(String storedFileName);
 
+    @Query("select f.s3Key from File f where f.s3Key in :s3Keys and f.isRemoved = false")
+    List<String> findExistingS3Keys(@Param("s3Keys") Collection<String> s3Keys);
+
     @Query("select f from File f left join fetch f.post where f.post = :post and f.isRemoved = false")
     List<File> findAllByPostIdAndIsRemovedFalse(Post post);
 
-    Page<File> findByIsRemovedTrueAndRemovedBefore(LocalDateTime threshold, Pageable pageable);
+    @Query("select f from File f join fetch f.post p left join fetch f.blob where p.id = :postId and p.isRemoved = false and f.isRemoved = false order by f.id asc")
+    List<File> findAllLiveWithPost(@Param("postId") Long postId);
+
+    //(file_blob_id, file_id) 인덱스로 연결되지 않은 파일만 범위 조회
+    @Query("select f from File f where f.blob is null and f.isRemoved = false and f.id > :afterId order by f.id asc")
+    List<File> findUnlinkedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    //게시글 수정/삭제의 soft delete와 같은 row 잠금을 거치므로, 그 사이 삭제된 파일은 여기서 걸러짐
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from File f where f.id = :id and f.blob is null and f.isRemoved = false")
+    Optional<File> findUnlinkedForUpdate(@Param("id") Long id);
+
+    /*
+    - file_id 기준 keyset으로 조회 -> 삭제에 실패한 row가 남아있어도 같은 페이지를 반복해서 읽지 않음
+    - soft delete 시각은 lastModifiedDate (삭제된 파일은 이후 수정되지 않음)
+     */
+    @Query("select f from File f where f.isRemoved = true and f.lastModifiedDate < :threshold and f.id > :afterId order by f.id asc")
+    List<File> findPurgeTargets(@Param("threshold") LocalDateTime threshold, @Param("afterId") Long afterId, Pageable pageable);
+
+    //purge가 lastModifiedDate를 soft delete 시각으로 보므로 직접 지정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update File f set f.isRemoved = true, f.storedFileName = '', f.lastModifiedDate = :now where f.post.id = :postId and f.isRemoved = false")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from File f where f.id in :ids and f.isRemoved = true")
+    int deleteRemovedByIdIn(@Param("ids") Collection<Long> ids);
 }
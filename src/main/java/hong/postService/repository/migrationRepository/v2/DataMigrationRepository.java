@@ -0,0 +1,16 @@
+package hong.postService.repository.migrationRepository.v2;
+
+import hong.postService.domain.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 데이터 backfill 적용 기록 Repository API
+ *
+ * Create
+ *     DataMigration saveAndFlush(migration) - backfill 실행 전 기록 (PK 충돌이면 다른 인스턴스가 이미 적용 중/완료)
+ *
+ * Read
+ *     boolean existsById(name) - 적용 여부 확인
+ */
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
@@ -0,0 +1,38 @@
+package hong.postService.repository.outboxRepository.v2;
+
+import hong.postService.domain.StorageDeleteOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스토리지 삭제 outbox Repository API
+ *
+ * Create
+ *     List<StorageDeleteOutbox> saveAll(outboxes) - File 변경 트랜잭션에서 삭제 요청 기록
+ *
+ * Read
+ *     List<StorageDeleteOutbox> findDueForUpdate(now, pageable) - 처리할 차례가 된 요청을 잠그고 조회 (다른 인스턴스가 잠근 row는 건너뜀)
+ *     long countByNextAttemptAtLessThanEqual(now) - 밀린 요청 수
+ *
+ * Delete
+ *     void deleteAllByIdInBatch(ids) - 삭제에 성공한 요청 제거
+ */
+public interface StorageDeleteOutboxRepository extends JpaRepository<StorageDeleteOutbox, Long> {
+
+    //lock.timeout = -2 -> SKIP LOCKED (지원하지 않는 DB에서는 일반 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from StorageDeleteOutbox o where o.nextAttemptAt <= :now order by o.id asc")
+    List<StorageDeleteOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByNextAttemptAtLessThanEqual(LocalDateTime now);
+}
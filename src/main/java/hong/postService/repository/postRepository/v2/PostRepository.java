@@ -6,8 +6,12 @@ import hong.postService.service.postService.dto.PostSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +31,17 @@ import java.util.Optional;
  *     List<Post> findAllByIsRemovedFalse() - 모든 게시글 단순 조회 시
  *
  *     Page<Post> searchPosts(searchCond, pageable) - 게시물 검색 시 (with paging)
+ *     List<PostSummaryResponse> findSummariesByIds(ids) - 전문 검색 결과 ID들의 요약 조회 시
+ *     List<Post> findByIdGreaterThanAndIsRemovedFalseOrderByIdAsc(id, pageable) - 검색 인덱스 재색인 시
+ *     List<Post> findByLastModifiedDateGreaterThanEqualAndIdGreaterThanOrderByIdAsc(since, id, pageable) - 검색 인덱스에서 빠진 변경(삭제 포함) 재색인 시
  *     List<Post> searchPosts(searchCond) - 게시물 단순 검색 시
  *
+ * Update
+ *     int addCommentCount(postId, delta) - 댓글 작성/삭제 시 댓글 수 카운터 증감
+ *     int addFileCount(postId, delta) - 파일 추가/삭제 시 파일 수 카운터 증감
+ *     long findMaxId() - 1회성 backfill을 ID 범위로 나눌 때
+ *     int recountCounters(afterId, toId) - 카운터 도입 이전 게시글의 댓글 수/파일 수를 실제 row 수로 다시 계산 (1회성 backfill, ID 범위 단위)
+ *
  * Delete
  *     void delete(post) - 게시글 삭제 시
  */
@@ -39,9 +52,7 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
 
     @Query(
             value = "select new hong.postService.service.postService.dto.PostSummaryResponse " +
-                    "(p.id, p.title, p.writer.nickname, p.createdDate, " +
-                    "(select count(c) from Comment c where c.post = p and c.isRemoved = false), " +
-                    "case when exists (select  f.id from File f where f.post = p and f.isRemoved = false) then true else false end)" +
+                    "(p.id, p.title, p.writer.nickname, p.createdDate, p.commentCount, p.fileCount) " +
                     "from Post p where p.writer = :writer and p.isRemoved = false",
             countQuery = "select count(p) from Post p where p.writer = :writer and p.isRemoved = false"
     )
@@ -55,13 +66,47 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
 
     @Query(
             value = "select new hong.postService.service.postService.dto.PostSummaryResponse " +
-                    "(p.id, p.title, p.writer.nickname, p.createdDate, " +
-                    "(select count(c) from Comment c where c.post = p and c.isRemoved = false), " +
-                    "case when exists (select  f.id from File f where f.post = p and f.isRemoved = false) then true else false end) " +
+                    "(p.id, p.title, p.writer.nickname, p.createdDate, p.commentCount, p.fileCount) " +
                     "from Post  p where p.isRemoved = false",
             countQuery = "select count(p) from Post p where p.isRemoved = false"
     )
     Page<PostSummaryResponse> findSummaries(Pageable pageable);
 
+    @Query(
+            "select new hong.postService.service.postService.dto.PostSummaryResponse " +
+                    "(p.id, p.title, p.writer.nickname, p.createdDate, p.commentCount, p.fileCount) " +
+                    "from Post p where p.id in :ids and p.isRemoved = false"
+    )
+    List<PostSummaryResponse> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    List<Post> findByIdGreaterThanAndIsRemovedFalseOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Post> findByLastModifiedDateGreaterThanEqualAndIdGreaterThanOrderByIdAsc(LocalDateTime since, Long id, Pageable pageable);
+
+    /*
+    - 카운터는 엔티티 Dirty Checking이 아닌 원자적 증감 쿼리로만 변경 -> 동시 요청 간 lost update 방지
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Post p set p.fileCount = p.fileCount + :delta where p.id = :postId")
+    int addFileCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId();
 
+    /*
+    - 카운터 컬럼은 엔티티로 쓰지 않으므로(updatable = false) native update로 계산
+    - DataMigrationRunner에서 한 번만 실행하며, 한 트랜잭션이 테이블 전체를 잠그지 않도록 ID 범위 (afterId, toId] 단위로 나눠 호출
+     */
+    @Modifying
+    @Query(value = "update post p set " +
+            "comment_count = (select count(*) from comment c where c.post_id = p.post_id and c.is_removed = false), " +
+            "file_count = (select count(*) from file f where f.post_id = p.post_id and f.is_removed = false) " +
+            "where p.post_id > :afterId and p.post_id <= :toId",
+            nativeQuery = true)
+    int recountCounters(@Param("afterId") long afterId, @Param("toId") long toId);
 }
@@ -1,6 +1,6 @@
 package hong.postService.repository.postRepository.v2;
 
-import hong.postService.domain.Post;
+import hong.postService.service.cursor.Cursor;
 import hong.postService.service.postService.dto.PostSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,4 +10,6 @@ import java.util.List;
 public interface PostRepositoryCustom {
 
     Page<PostSummaryResponse> searchPosts(SearchCond cond, Pageable pageable);
+
+    List<PostSummaryResponse> searchPostsByCursor(SearchCond cond, Cursor cursor, int limit);
 }
@@ -3,11 +3,12 @@ package hong.postService.repository.postRepository.v2;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import hong.postService.domain.Post;
+import hong.postService.service.cursor.Cursor;
 import hong.postService.service.postService.dto.PostSummaryResponse;
 import hong.postService.service.postService.dto.QPostSummaryResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,6 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.util.ArrayList;
 import java.util.List;
 
-import static hong.postService.domain.QComment.comment;
-import static hong.postService.domain.QFile.file;
 import static hong.postService.domain.QMember.member;
 import static hong.postService.domain.QPost.*;
 
@@ -35,35 +34,10 @@ public class PostRepositoryImpl implements PostRepositoryCustom{
      */
     @Override
     public Page<PostSummaryResponse> searchPosts(SearchCond cond, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(post.isRemoved.isFalse());
-
-        if (cond.getWriter() != null) {
-            builder.and(post.writer.nickname.startsWith(cond.getWriter()));
-        }
-
-        if (cond.getTitle() != null) {
-            builder.and(post.title.startsWith(cond.getTitle()));
-        }
-
+        BooleanBuilder builder = searchCondition(cond);
 
         List<PostSummaryResponse> contents = queryFactory
-                .select(new QPostSummaryResponse(
-                        post.id,
-                        post.title,
-                        post.writer.nickname,
-                        post.createdDate,
-                        JPAExpressions.select(comment.count())
-                                .from(comment)
-                                .where(comment.post.eq(post)
-                                        .and(comment.isRemoved.isFalse())),
-                        JPAExpressions.selectOne()
-                                .from(file)
-                                .where(file.post.eq(post)
-                                        .and(file.isRemoved.isFalse()))
-                                .exists()
-                ))
+                .select(summaryProjection())
                 .from(post)
                 .leftJoin(post.writer, member)
                 .where(builder)
@@ -80,6 +54,61 @@ public class PostRepositoryImpl implements PostRepositoryCustom{
         return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
     }
 
+    /*
+    - (createdDate, id) 기준 keyset 페이징 -> offset 스캔과 count 쿼리 없이 최신순으로 limit개만 조회
+    - cursor가 null이면 첫 페이지
+     */
+    @Override
+    public List<PostSummaryResponse> searchPostsByCursor(SearchCond cond, Cursor cursor, int limit) {
+        BooleanBuilder builder = searchCondition(cond);
+
+        if (cursor != null) {
+            builder.and(isBefore(cursor));
+        }
+
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .leftJoin(post.writer, member)
+                .where(builder)
+                .orderBy(post.createdDate.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanBuilder searchCondition(SearchCond cond) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        builder.and(post.isRemoved.isFalse());
+
+        if (cond.getWriter() != null) {
+            builder.and(post.writer.nickname.startsWith(cond.getWriter()));
+        }
+
+        if (cond.getTitle() != null) {
+            builder.and(post.title.startsWith(cond.getTitle()));
+        }
+
+        return builder;
+    }
+
+    private BooleanExpression isBefore(Cursor cursor) {
+        return post.createdDate.lt(cursor.getCreatedDate())
+                .or(post.createdDate.eq(cursor.getCreatedDate())
+                        .and(post.id.lt(cursor.getId())));
+    }
+
+    private QPostSummaryResponse summaryProjection() {
+        return new QPostSummaryResponse(
+                post.id,
+                post.title,
+                post.writer.nickname,
+                post.createdDate,
+                post.commentCount,
+                post.fileCount
+        );
+    }
+
     private List<OrderSpecifier<?>> getOrderSpecifiers(Pageable pageable, Class<?> type, String alias) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         PathBuilder<?> pathBuilder = new PathBuilder<>(type, alias);
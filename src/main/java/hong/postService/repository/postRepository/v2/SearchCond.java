@@ -4,6 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * 게시글 검색 조건
+ *
+ * - writer, title: DB에서 startsWith로 검색
+ * - keyword: title, content에 대한 전문 검색 인덱스로 검색 (관련도 순, keyword가 있으면 writer/title은 무시)
+ */
 @Getter
 @Builder
 @AllArgsConstructor
@@ -11,4 +17,9 @@ public class SearchCond {
 
     private String writer;
     private String title;
+    private String keyword;
+
+    public SearchCond(String writer, String title) {
+        this(writer, title, null);
+    }
 }
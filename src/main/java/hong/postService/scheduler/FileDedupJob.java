@@ -0,0 +1,100 @@
+package hong.postService.scheduler;
+
+import hong.postService.domain.File;
+import hong.postService.repository.fileRepository.v2.FileRepository;
+import hong.postService.service.fileService.dto.ContentHash;
+import hong.postService.service.fileService.v2.FileBlobStore;
+import hong.postService.service.fileService.v2.FilePromoter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 첨부 파일 중복 제거 배치 (file.dedup.enabled=true일 때만 동작)
+ *
+ * - 게시글 작성/수정은 해시 계산 없이 첨부를 커밋하고, 아직 blob이 없는 파일을 여기서 커밋 이후에 처리
+ *   -> 첨부를 통째로 읽는 해시 계산이 요청 지연에 포함되지 않음
+ * - file_id keyset으로 한 번 실행에 최대 files-per-run개만 보고, 다음 실행은 이어서 진행 (끝까지 보면 처음부터 다시)
+ * - 파일마다 최종 오브젝트(서버만 씀)를 읽어 해시를 계산한 뒤 FileBlobStore.link로 같은 내용의 blob에 연결
+ * - 읽기/연결에 실패한 파일은 건너뛰고 다음 순회에서 다시 시도
+ */
+@Slf4j
+@Component
+public class FileDedupJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final FileBlobStore fileBlobStore;
+    private final FilePromoter filePromoter;
+    private final FileRepository fileRepository;
+    private final int filesPerRun;
+
+    private final Counter linkedCounter;
+    private final Counter failedCounter;
+
+    //다음 실행이 이어서 볼 위치 (0이면 처음부터)
+    private volatile long resumeAfter;
+
+    public FileDedupJob(FileBlobStore fileBlobStore,
+                        FilePromoter filePromoter,
+                        FileRepository fileRepository,
+                        @Value("${file.dedup.files-per-run:1000}") int filesPerRun,
+                        MeterRegistry meterRegistry) {
+        this.fileBlobStore = fileBlobStore;
+        this.filePromoter = filePromoter;
+        this.fileRepository = fileRepository;
+        this.filesPerRun = filesPerRun;
+
+        this.linkedCounter = Counter.builder("file.dedup.linked")
+                .description("내용 해시를 계산해 blob에 연결된 파일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("file.dedup.failed")
+                .description("해시 계산이나 blob 연결에 실패한 파일 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${file.dedup.interval-ms:60000}")
+    public void run() {
+        if (!fileBlobStore.isEnabled()) return;
+
+        int scanned = 0;
+        int linked = 0;
+
+        while (scanned < filesPerRun) {
+            List<File> files = fileRepository.findUnlinkedAfter(resumeAfter, PageRequest.of(0, Math.min(BATCH_SIZE, filesPerRun - scanned)));
+            if (files.isEmpty()) {
+                resumeAfter = 0L;
+                break;
+            }
+
+            for (File file : files) {
+                if (link(file)) linked++;
+            }
+
+            scanned += files.size();
+            resumeAfter = files.get(files.size() - 1).getId();
+        }
+
+        if (scanned > 0) log.info("file dedup: scanned={}, linked={}", scanned, linked);
+    }
+
+    private boolean link(File file) {
+        try {
+            ContentHash hash = filePromoter.hash(file.getS3Key());
+            if (!fileBlobStore.link(file.getId(), hash)) return false;
+
+            linkedCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("file dedup 실패, 다음 순회에서 다시 시도: fileId={}", file.getId(), e);
+            return false;
+        }
+    }
+}
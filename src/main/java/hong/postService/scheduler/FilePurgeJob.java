@@ -1,31 +1,62 @@
 package hong.postService.scheduler;
 
+import hong.postService.service.fileService.dto.PurgeBatchResult;
 import hong.postService.service.fileService.v2.FileService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * soft delete된 파일의 DB row를 정리하는 배치
+ *
+ * - 유예 기간(2일)이 지난 파일을 file_id keyset으로 끝까지 한 번 훑음
+ * - row 삭제와 오브젝트 삭제 요청(outbox) 기록을 배치마다 한 트랜잭션으로 처리하고, S3 삭제/재시도는 StorageDeleteDispatcher가 담당
+ * - 처리량은 로그와 file.purge.purged 메트릭으로 노출 (S3 삭제 실패는 storage.delete.failed)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FilePurgeJob {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final FileService fileCleanupService;
+    private final Counter purgedCounter;
+
+    public FilePurgeJob(FileService fileCleanupService, MeterRegistry meterRegistry) {
+        this.fileCleanupService = fileCleanupService;
+        this.purgedCounter = Counter.builder("file.purge.purged")
+                .description("row가 삭제되고 오브젝트 삭제 요청이 기록된 파일 수")
+                .register(meterRegistry);
+    }
 
-    // 매 시간 정각 실행 예시
+    // 매 시간 정각 실행
     @Scheduled(cron = "0 0 * * * *")
     public void run() {
         LocalDateTime threshold = LocalDateTime.now().minusDays(2); // 유예 2일
-        int total = 0;
-        int batch;
-
-        do {
-            batch = fileCleanupService.purgeSoftDeletedFilesBefore(threshold, 200);
-            total += batch;
-        } while (batch > 0); // 더 이상 없을 때까지 페이징 루프
-        log.info("purged {} soft-deleted files", total);
+        long startedAt = System.nanoTime();
+
+        Long lastId = 0L;
+        int purged = 0;
+
+        while (true) {
+            PurgeBatchResult batch = fileCleanupService.purgeSoftDeletedFilesBefore(threshold, lastId, BATCH_SIZE);
+            if (batch.getScanned() == 0) break;
+
+            purged += batch.getScanned();
+            purgedCounter.increment(batch.getScanned());
+
+            lastId = batch.getLastId();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        double perSecond = elapsed.toMillis() == 0 ? purged : purged * 1000.0 / elapsed.toMillis();
+
+        log.info("purged soft-deleted files: purged={}, elapsed={}ms, {} files/s",
+                purged, elapsed.toMillis(), String.format("%.1f", perSecond));
     }
-}
\ No newline at end of file
+}
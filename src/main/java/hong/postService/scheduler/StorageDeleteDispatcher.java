@@ -0,0 +1,90 @@
+package hong.postService.scheduler;
+
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.storage.ObjectStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스토리지 삭제 outbox를 비우는 백그라운드 dispatcher
+ *
+ * - 처리할 차례가 된 요청을 최대 1000개씩 선점(lease)하고, ObjectStorage.deleteAll 한 번으로 삭제 (S3는 multi-object delete 1회)
+ * - 선점/결과 반영은 짧은 트랜잭션으로, 스토리지 호출은 트랜잭션 밖에서 수행
+ * - 실패한 키는 outbox에 남겨두고 backoff 후 재시도
+ * - 처리/실패 수와 밀린 요청 수는 storage.delete.* 메트릭으로 노출
+ */
+@Component
+public class StorageDeleteDispatcher {
+
+    //S3 multi-object delete 한 번에 보낼 수 있는 최대 키 수
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final StorageDeleteOutboxService outboxService;
+    private final ObjectStorage objectStorage;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pending = new AtomicLong();
+
+    public StorageDeleteDispatcher(StorageDeleteOutboxService outboxService,
+                                   ObjectStorage objectStorage,
+                                   MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.objectStorage = objectStorage;
+
+        this.deletedCounter = Counter.builder("storage.delete.succeeded")
+                .description("outbox를 통해 삭제된 오브젝트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.delete.failed")
+                .description("삭제에 실패해 재시도 대기 중인 오브젝트 수 (시도 기준)")
+                .register(meterRegistry);
+        Gauge.builder("storage.delete.pending", pending, AtomicLong::get)
+                .description("처리할 차례가 된 삭제 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.delete.dispatch-interval-ms:5000}")
+    public void dispatch() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Map<Long, String> claimed = outboxService.claim(BATCH_SIZE, LEASE);
+            if (claimed.isEmpty()) break;
+
+            dispatchBatch(claimed);
+
+            if (claimed.size() < BATCH_SIZE) break;
+        }
+
+        pending.set(outboxService.countPending());
+    }
+
+    private void dispatchBatch(Map<Long, String> claimed) {
+        Map<String, List<Long>> idsByKey = new LinkedHashMap<>();
+        claimed.forEach((id, key) -> idsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(id));
+
+        Map<String, String> failedKeys = objectStorage.deleteAll(idsByKey.keySet());
+
+        List<Long> succeeded = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        idsByKey.forEach((key, ids) -> {
+            String error = failedKeys.get(key);
+            for (Long id : ids) {
+                if (error == null) succeeded.add(id);
+                else failures.put(id, error);
+            }
+        });
+
+        outboxService.complete(succeeded, failures);
+
+        deletedCounter.increment(idsByKey.size() - failedKeys.size());
+        failedCounter.increment(failedKeys.size());
+    }
+}
@@ -0,0 +1,100 @@
+package hong.postService.scheduler;
+
+import hong.postService.storage.ObjectPage;
+import hong.postService.storage.ObjectStorage;
+import hong.postService.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부되지 않고 남은 임시 업로드(post/tmp/) 정리 배치
+ *
+ * - upload-url로 올라왔지만 게시글에 첨부되지 않은 오브젝트는 File row가 없어 purge 대상이 아니므로 따로 정리
+ * - post/tmp/ prefix를 페이지(1000개) 단위로 훑고, 유예 기간(기본 24시간)이 지난 오브젝트만 페이지마다 한 번에 삭제
+ * - 한 번 실행에 최대 pages-per-run 페이지만 보고, 다음 실행은 마지막으로 본 키 다음부터 이어서 진행 (끝까지 보면 처음부터 다시)
+ *   -> 쌓인 양과 무관하게 실행당 list/delete 호출 수가 일정
+ * - 삭제에 실패한 키는 다음 순회에서 다시 삭제됨
+ * - 같은 유예 기간이 지나도록 완료/취소되지 않은 post/tmp/ 멀티파트 업로드도 매 실행마다 취소 (파트는 오브젝트 목록에 보이지 않음)
+ */
+@Slf4j
+@Component
+public class TmpUploadReaper {
+
+    private static final String TMP_PREFIX = "post/tmp/";
+    private static final int PAGE_SIZE = 1000;
+
+    private final ObjectStorage objectStorage;
+    private final Duration grace;
+    private final int pagesPerRun;
+
+    private final Counter reapedCounter;
+    private final Counter failedCounter;
+    private final Counter abortedCounter;
+
+    //다음 실행이 이어서 볼 위치 (null이면 처음부터)
+    private volatile String resumeAfter;
+
+    public TmpUploadReaper(ObjectStorage objectStorage,
+                           @Value("${storage.tmp-reaper.grace:24h}") Duration grace,
+                           @Value("${storage.tmp-reaper.pages-per-run:10}") int pagesPerRun,
+                           MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.grace = grace;
+        this.pagesPerRun = pagesPerRun;
+
+        this.reapedCounter = Counter.builder("storage.tmp.reaped")
+                .description("유예 기간이 지나 삭제된 임시 업로드 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.tmp.reap.failed")
+                .description("삭제에 실패한 임시 업로드 수")
+                .register(meterRegistry);
+        this.abortedCounter = Counter.builder("storage.tmp.multipart.aborted")
+                .description("유예 기간이 지나 취소된 멀티파트 업로드 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.tmp-reaper.interval-ms:600000}")
+    public void run() {
+        Instant threshold = Instant.now().minus(grace);
+
+        int scanned = 0;
+        int reaped = 0;
+
+        for (int i = 0; i < pagesPerRun; i++) {
+            ObjectPage page = objectStorage.listPage(TMP_PREFIX, resumeAfter, PAGE_SIZE);
+
+            List<String> stale = new ArrayList<>();
+            for (StoredObject object : page.getObjects()) {
+                if (object.getLastModified().isBefore(threshold)) stale.add(object.getKey());
+            }
+            scanned += page.getObjects().size();
+
+            if (!stale.isEmpty()) {
+                Map<String, String> failed = objectStorage.deleteAll(stale);
+
+                reaped += stale.size() - failed.size();
+                reapedCounter.increment(stale.size() - failed.size());
+                failedCounter.increment(failed.size());
+            }
+
+            resumeAfter = page.getNextStartAfter();
+            if (!page.hasNext()) break;
+        }
+
+        if (scanned > 0) log.info("reaped stale tmp uploads: scanned={}, reaped={}, resumeAfter={}", scanned, reaped, resumeAfter);
+
+        int aborted = objectStorage.abortMultipartUploadsBefore(TMP_PREFIX, threshold);
+        abortedCounter.increment(aborted);
+        if (aborted > 0) log.info("aborted stale multipart uploads: {}", aborted);
+    }
+}
@@ -0,0 +1,30 @@
+package hong.postService.search;
+
+import org.apache.lucene.analysis.Analyzer;
+
+/**
+ * KoreanNGramTokenizer 기반 Analyzer
+ *
+ * - 색인용과 검색용의 n-gram 생성 방식이 다르기 때문에 두 인스턴스를 구분해서 사용
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+    private final boolean forQuery;
+
+    private KoreanNGramAnalyzer(boolean forQuery) {
+        this.forQuery = forQuery;
+    }
+
+    public static KoreanNGramAnalyzer forIndex() {
+        return new KoreanNGramAnalyzer(false);
+    }
+
+    public static KoreanNGramAnalyzer forQuery() {
+        return new KoreanNGramAnalyzer(true);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new KoreanNGramTokenizer(forQuery));
+    }
+}
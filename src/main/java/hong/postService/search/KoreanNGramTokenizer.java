@@ -0,0 +1,144 @@
+package hong.postService.search;
+
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한글/영문 혼합 텍스트를 위한 n-gram Tokenizer
+ *
+ * - 입력을 한글 구간, 영문/숫자 구간으로 나누고 그 외 문자(공백, 구두점 등)는 구분자로 취급
+ *   ex) "Java스프링 입문" -> [java] [스프링] [입문]
+ * - 구간마다 (영문/숫자는 소문자로 바꾼 뒤)
+ *     색인: 1-gram, 2-gram, 3-gram을 모두 생성 -> 단어 중간/끝의 한 글자를 포함한 부분 검색도 인덱스로 처리
+ *       ex) "스프링부트" -> 스, 스프, 스프링, 프, 프링, 프링부, 링, 링부, 링부트, 부, 부트, 트
+ *       ex) "Spring" -> s, sp, spr, p, pr, pri, ... (-> "spr", "ring"으로도 매칭)
+ *     검색: 가능한 가장 긴 3-gram만 생성 (2글자면 2-gram, 1글자면 그대로) -> 적은 term으로 더 정확하게 매칭
+ */
+public final class KoreanNGramTokenizer extends Tokenizer {
+
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+    private final OffsetAttribute offsetAtt = addAttribute(OffsetAttribute.class);
+    private final PositionIncrementAttribute posIncAtt = addAttribute(PositionIncrementAttribute.class);
+
+    private final boolean forQuery;
+
+    private final List<Token> tokens = new ArrayList<>();
+    private int next;
+    private boolean loaded;
+    private int finalOffset;
+
+    public KoreanNGramTokenizer(boolean forQuery) {
+        this.forQuery = forQuery;
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+        clearAttributes();
+
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+
+        if (next >= tokens.size()) return false;
+
+        Token token = tokens.get(next++);
+        termAtt.setEmpty().append(token.term);
+        offsetAtt.setOffset(correctOffset(token.start), correctOffset(token.end));
+        posIncAtt.setPositionIncrement(token.positionIncrement);
+
+        return true;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        tokens.clear();
+        next = 0;
+        loaded = false;
+        finalOffset = 0;
+    }
+
+    @Override
+    public void end() throws IOException {
+        super.end();
+        int offset = correctOffset(finalOffset);
+        offsetAtt.setOffset(offset, offset);
+    }
+
+//토큰 생성---------------------------------------------------------------------------------------------------
+
+    private void load() throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            text.append(buffer, 0, read);
+        }
+
+        finalOffset = text.length();
+
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int start = i;
+
+            if (isHangul(c)) {
+                while (i < text.length() && isHangul(text.charAt(i))) i++;
+                addGrams(text, start, i);
+            } else if (Character.isLetterOrDigit(c)) {
+                while (i < text.length() && isWordChar(text.charAt(i))) {
+                    //문자 단위로 바꿔 길이(= offset)가 원문과 같도록 함
+                    text.setCharAt(i, Character.toLowerCase(text.charAt(i)));
+                    i++;
+                }
+                addGrams(text, start, i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void addGrams(CharSequence text, int start, int end) {
+        if (forQuery) {
+            if (end - start <= 2) {
+                tokens.add(new Token(text.subSequence(start, end).toString(), start, end, 1));
+                return;
+            }
+            for (int i = start; i + 3 <= end; i++) {
+                tokens.add(new Token(text.subSequence(i, i + 3).toString(), i, i + 3, 1));
+            }
+            return;
+        }
+
+        //같은 시작 위치의 1/2/3-gram은 같은 position
+        for (int i = start; i < end; i++) {
+            tokens.add(new Token(text.subSequence(i, i + 1).toString(), i, i + 1, 1));
+            if (i + 2 <= end) {
+                tokens.add(new Token(text.subSequence(i, i + 2).toString(), i, i + 2, 0));
+            }
+            if (i + 3 <= end) {
+                tokens.add(new Token(text.subSequence(i, i + 3).toString(), i, i + 3, 0));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+
+    private record Token(String term, int start, int end, int positionIncrement) {
+    }
+}
@@ -0,0 +1,324 @@
+package hong.postService.search;
+
+import hong.postService.domain.Post;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 title, content에 대한 Lucene 역색인
+ *
+ * - search.index.path가 지정되면 로컬 디스크(FSDirectory)에, 없으면 메모리(ByteBuffersDirectory)에 인덱스를 유지
+ * - 변경은 SearcherManager.maybeRefresh로 바로 검색에 반영(NRT)하고, 디스크 반영(commit, fsync)은 주기적으로/종료 시에만 수행
+ *   -> commit data에 "이 시각 이전 수정분은 모두 반영됨"(synced-until)을 함께 기록하고,
+ *      비정상 종료나 색인 실패로 빠진 변경은 PostSearchIndexer가 시작 시 그 이후 수정된 게시글만 다시 색인하여 복구
+ * - 점수는 Lucene 기본 BM25이며, title 매칭에 가중치를 더 줌
+ * - 한글 부분 검색을 위해 KoreanNGramAnalyzer로 색인/검색 (LIKE '%...%' 스캔 대신 n-gram term 조회)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+
+    private static final float TITLE_BOOST = 2.0f;
+
+    //Analyzer가 바뀌면 기존 인덱스의 term과 호환되지 않으므로, 버전이 다르면 비우고 재색인되도록 함
+    private static final String ANALYZER_VERSION_KEY = "analyzer.version";
+    private static final String ANALYZER_VERSION = "korean-ngram-3";
+    private static final String SYNCED_UNTIL_KEY = "posts.synced-until";
+
+    private final Directory directory;
+    private final Analyzer queryAnalyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    //마지막 commit에 기록된 synced-until (없으면 전체 재색인 필요)
+    private volatile LocalDateTime syncedUntil;
+    //다음 commit에 기록할 synced-until (PostSearchIndexer가 올림)
+    private final AtomicReference<LocalDateTime> pendingSyncedUntil = new AtomicReference<>();
+
+    @Autowired
+    public PostSearchIndex(@Value("${search.index.path:}") String indexPath) throws IOException {
+        this(openDirectory(indexPath), KoreanNGramAnalyzer.forIndex(), KoreanNGramAnalyzer.forQuery());
+    }
+
+    PostSearchIndex(Directory directory, Analyzer indexAnalyzer, Analyzer queryAnalyzer) throws IOException {
+        this.directory = directory;
+        this.queryAnalyzer = queryAnalyzer;
+
+        IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+        this.writer = new IndexWriter(directory, config);
+        clearIfAnalyzerChanged();
+        this.pendingSyncedUntil.set(syncedUntil);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    private static Directory openDirectory(String indexPath) throws IOException {
+        if (indexPath == null || indexPath.isBlank()) {
+            log.warn("search.index.path가 설정되지 않아 메모리 인덱스를 사용합니다.");
+            return new ByteBuffersDirectory();
+        }
+        return FSDirectory.open(Path.of(indexPath));
+    }
+
+    private void clearIfAnalyzerChanged() throws IOException {
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> live = writer.getLiveCommitData();
+        if (live != null) live.forEach(e -> commitData.put(e.getKey(), e.getValue()));
+
+        if (ANALYZER_VERSION.equals(commitData.get(ANALYZER_VERSION_KEY))) {
+            String synced = commitData.get(SYNCED_UNTIL_KEY);
+            this.syncedUntil = synced == null ? null : LocalDateTime.parse(synced);
+            return;
+        }
+
+        //synced-until 없이 기록 -> PostSearchIndexer가 전체 재색인
+        if (writer.getDocStats().numDocs > 0) {
+            log.info("검색 인덱스 Analyzer 버전 변경 -> 기존 인덱스 삭제 후 재색인");
+            writer.deleteAll();
+        }
+        writer.setLiveCommitData(Map.of(ANALYZER_VERSION_KEY, ANALYZER_VERSION).entrySet());
+        writer.commit();
+    }
+
+//인덱싱---------------------------------------------------------------------------------------------------
+
+    /**
+     * 게시글 문서를 추가하거나, 이미 있으면 교체합니다.
+     */
+    public void index(Long postId, String title, String content) {
+        try {
+            writer.updateDocument(new Term(ID, String.valueOf(postId)), toDocument(postId, title, content));
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 재색인 시 여러 게시글을 한 번의 refresh로 반영합니다. (삭제되었거나 아직 공개되지 않은 게시글은 문서를 지움)
+     */
+    public void indexAll(List<Post> posts) {
+        try {
+            for (Post post : posts) {
+                Term id = new Term(ID, String.valueOf(post.getId()));
+                if (post.isRemoved()) {
+                    writer.deleteDocuments(id);
+                } else {
+                    writer.updateDocument(id, toDocument(post.getId(), post.getTitle(), post.getContent()));
+                }
+            }
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            writer.deleteDocuments(new Term(ID, String.valueOf(postId)));
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재색인 전에 기존 문서를 모두 지웁니다. (synced-until이 없어 어떤 변경이 빠졌는지 알 수 없는 경우)
+     */
+    public void clear() {
+        try {
+            writer.deleteAll();
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 마지막 commit 기준으로, 이 시각 이전에 수정된 게시글은 모두 인덱스에 반영되어 있습니다.
+     *
+     * @return synced-until (기록이 없으면 null -> 전체 재색인 필요)
+     */
+    public LocalDateTime getSyncedUntil() {
+        return syncedUntil;
+    }
+
+    /**
+     * 다음 commit에 기록할 synced-until을 올립니다. (이전 값보다 작으면 무시)
+     * 이 시각 이전 수정분이 모두 색인된 뒤에만 호출해야 합니다.
+     */
+    public void advanceSyncedUntil(LocalDateTime until) {
+        pendingSyncedUntil.accumulateAndGet(until, (prev, next) -> prev == null || next.isAfter(prev) ? next : prev);
+    }
+
+    private Document toDocument(Long postId, String title, String content) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(postId), Field.Store.YES));
+        doc.add(new TextField(TITLE, title == null ? "" : title, Field.Store.NO));
+        doc.add(new TextField(CONTENT, content == null ? "" : content, Field.Store.NO));
+        return doc;
+    }
+
+    private void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 마지막 commit 이후 변경이 있으면 synced-until과 함께 디스크에 반영합니다. (검색 반영과 별개로 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:5000}")
+    public synchronized void commit() {
+        LocalDateTime until = pendingSyncedUntil.get();
+        boolean advanced = until != null && !until.equals(syncedUntil);
+        if (!writer.isOpen() || (!writer.hasUncommittedChanges() && !advanced)) return;
+
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(ANALYZER_VERSION_KEY, ANALYZER_VERSION);
+        if (until != null) commitData.put(SYNCED_UNTIL_KEY, until.toString());
+
+        try {
+            writer.setLiveCommitData(commitData.entrySet());
+            writer.commit();
+            syncedUntil = until;
+        } catch (IOException e) {
+            log.warn("검색 인덱스 commit 실패", e);
+        }
+    }
+
+//검색---------------------------------------------------------------------------------------------------
+
+    /**
+     * 키워드로 게시글을 검색합니다.
+     * 키워드의 모든 토큰이 title 또는 content에 있어야 하며, 결과는 관련도 순으로 정렬됩니다.
+     *
+     * @param keyword 검색어
+     * @param pageable 페이징 정보 (정렬은 무시하고 관련도 순)
+     * @return 관련도 순 게시글 ID 페이지
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        Query query = buildQuery(keyword);
+        if (query == null) return Page.empty(pageable);
+
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+
+            TopDocs topDocs = searcher.search(query, offset + size);
+
+            long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(query);
+
+            List<Long> ids = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                Document doc = searcher.storedFields().document(scoreDocs[i].doc, Set.of(ID));
+                ids.add(Long.parseLong(doc.get(ID)));
+            }
+
+            return new PageImpl<>(ids, pageable, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Query buildQuery(String keyword) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) return null;
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        for (String term : terms) {
+            Query perTerm = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(CONTENT, term)), BooleanClause.Occur.SHOULD)
+                    .build();
+
+            query.add(perTerm, BooleanClause.Occur.MUST);
+        }
+
+        return query.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) return terms;
+
+        try (TokenStream stream = queryAnalyzer.tokenStream(CONTENT, text)) {
+            CharTermAttribute termAttr = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttr.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return terms;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("IndexSearcher 반환 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
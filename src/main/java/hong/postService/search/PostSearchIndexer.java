@@ -0,0 +1,117 @@
+package hong.postService.search;
+
+import hong.postService.domain.Post;
+import hong.postService.repository.postRepository.v2.PostRepository;
+import hong.postService.service.postService.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PostChangedEvent를 받아 PostSearchIndex를 증분 갱신
+ *
+ * - 트랜잭션 커밋 이후에만 반영하여, 롤백된 게시글이 검색되지 않도록 함
+ * - 인덱스 갱신 실패는 게시글 작성/수정 자체를 실패시키지 않고 로그만 남김
+ *   -> 대신 synced-until을 더 올리지 않아, 다음 시작 시 catchUp이 그 이후 수정된 게시글을 다시 색인
+ * - 애플리케이션 시작 시 synced-until 이후 수정된 게시글(삭제 포함)을 다시 색인하고, 기록이 없으면 전체 재색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+    //게시글 수정 시각(flush)과 커밋 후 색인 사이의 지연을 흡수하는 여유 (이보다 긴 트랜잭션의 변경은 보장하지 않음)
+    private static final Duration SYNC_MARGIN = Duration.ofMinutes(1);
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    //시작 시 catchUp이 끝나기 전에는 synced-until을 올리지 않음
+    private volatile boolean caughtUp;
+    //한 번이라도 색인이 실패하면 이번 실행 동안은 synced-until을 올리지 않음
+    private volatile boolean failed;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            if (event.getType() == PostChangedEvent.Type.DELETED) {
+                postSearchIndex.delete(event.getPostId());
+            } else {
+                postSearchIndex.index(event.getPostId(), event.getTitle(), event.getContent());
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            log.warn("검색 인덱스 갱신 실패, postId = {}", event.getPostId(), e);
+            return;
+        }
+
+        if (caughtUp && !failed) postSearchIndex.advanceSyncedUntil(LocalDateTime.now().minus(SYNC_MARGIN));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = postSearchIndex.getSyncedUntil();
+
+        try {
+            int indexed = since == null ? rebuild() : reindexChangedSince(since);
+            log.info("검색 인덱스 동기화 완료, since = {}, {} posts", since, indexed);
+        } catch (RuntimeException e) {
+            failed = true;
+            log.error("검색 인덱스 동기화 실패, since = {}", since, e);
+            return;
+        }
+
+        if (!failed) postSearchIndex.advanceSyncedUntil(startedAt.minus(SYNC_MARGIN));
+        caughtUp = true;
+        postSearchIndex.commit();
+    }
+
+    /*
+    - 어떤 변경이 빠졌는지 알 수 없으므로 (처음 시작, Analyzer 변경, synced-until 도입 이전 인덱스) 비우고 전체 재색인
+     */
+    private int rebuild() {
+        postSearchIndex.clear();
+
+        long lastId = 0L;
+        int indexed = 0;
+
+        while (true) {
+            List<Post> posts = postRepository.findByIdGreaterThanAndIsRemovedFalseOrderByIdAsc(lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (posts.isEmpty()) return indexed;
+
+            postSearchIndex.indexAll(posts);
+
+            indexed += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+    }
+
+    /*
+    - synced-until 이후 수정된 게시글만 ID 순서로 다시 색인 (삭제/미공개 게시글은 문서를 지움)
+     */
+    private int reindexChangedSince(LocalDateTime since) {
+        long lastId = 0L;
+        int indexed = 0;
+
+        while (true) {
+            List<Post> posts = postRepository.findByLastModifiedDateGreaterThanEqualAndIdGreaterThanOrderByIdAsc(since, lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+            if (posts.isEmpty()) return indexed;
+
+            postSearchIndex.indexAll(posts);
+
+            indexed += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+    }
+}
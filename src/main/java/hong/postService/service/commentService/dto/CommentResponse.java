@@ -16,12 +16,15 @@ public class CommentResponse {
     private String writer;
     private LocalDateTime createdDate;
     private Long parentCommentId;
+    //0이면 펼칠 대댓글이 없음
+    private int replyCount;
 
-    public CommentResponse(Long id, String content, String writer, LocalDateTime createdDate) {
+    public CommentResponse(Long id, String content, String writer, LocalDateTime createdDate, int replyCount) {
         this.id = id;
         this.content = content;
         this.writer = writer;
         this.createdDate = createdDate;
+        this.replyCount = replyCount;
     }
 
     public static CommentResponse from (Comment comment) {
@@ -30,13 +33,15 @@ public class CommentResponse {
             return new CommentResponse(comment.getId(),
                     comment.getContent(),
                     comment.getWriter().getNickname(),
-                    comment.getCreatedDate());
+                    comment.getCreatedDate(),
+                    comment.getReplyCount());
         } else {
             return new CommentResponse(comment.getId(),
                     comment.getContent(),
                     comment.getWriter().getNickname(),
                     comment.getCreatedDate(),
-                    comment.getParentComment().getId());
+                    comment.getParentComment().getId(),
+                    comment.getReplyCount());
         }
     }
 }
@@ -0,0 +1,60 @@
+package hong.postService.service.commentService.dto;
+
+import hong.postService.domain.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 트리 응답 (대댓글을 children으로 중첩)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentTreeResponse {
+
+    private Long id;
+    private String content;
+    private String writer;
+    private LocalDateTime createdDate;
+    private Long parentCommentId;
+    private List<CommentTreeResponse> children;
+
+    public static CommentTreeResponse from(Comment comment) {
+        Comment parent = comment.getParentComment();
+
+        return new CommentTreeResponse(comment.getId(),
+                comment.getContent(),
+                comment.getWriter().getNickname(),
+                comment.getCreatedDate(),
+                parent == null ? null : parent.getId(),
+                new ArrayList<>());
+    }
+
+    /**
+     * path 순서(DFS)로 조회한 댓글들을 메모리에서 트리로 조립합니다.
+     * 부모가 결과에 없는 댓글(서브트리의 루트 등)은 최상위 노드가 됩니다.
+     *
+     * @param comments path 오름차순으로 정렬된 댓글 목록
+     * @return 최상위 노드 목록 (형제는 작성 순)
+     */
+    public static List<CommentTreeResponse> assemble(List<Comment> comments) {
+        Map<Long, CommentTreeResponse> nodes = new HashMap<>();
+        List<CommentTreeResponse> roots = new ArrayList<>();
+
+        for (Comment comment : comments) {
+            CommentTreeResponse node = from(comment);
+            nodes.put(node.getId(), node);
+
+            CommentTreeResponse parent = node.getParentCommentId() == null ? null : nodes.get(node.getParentCommentId());
+            if (parent == null) roots.add(node);
+            else parent.getChildren().add(node);
+        }
+
+        return roots;
+    }
+}
@@ -0,0 +1,18 @@
+package hong.postService.service.commentService.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글이 bulk update로 한꺼번에 삭제됐을 때 발행하는 이벤트 (댓글 서브트리 삭제, 게시글 삭제)
+ *
+ * - bulk update는 엔티티를 거치지 않으므로, 댓글 수 등 파생 데이터를 가진 캐시가 이 이벤트로 무효화함
+ * - 리스너는 @TransactionalEventListener로 받아서, 롤백된 변경이 반영되지 않도록 함
+ */
+@Getter
+@AllArgsConstructor
+public class CommentsRemovedEvent {
+
+    private final Long postId;
+    private final int removedCount;
+}
@@ -5,6 +5,7 @@ import hong.postService.domain.Member;
 import hong.postService.domain.Post;
 import hong.postService.exception.comment.CommentNotFoundException;
 import hong.postService.exception.comment.InvalidCommentFieldException;
+import hong.postService.exception.cursor.InvalidCursorException;
 import hong.postService.exception.member.MemberNotFoundException;
 import hong.postService.exception.post.InvalidPostFieldException;
 import hong.postService.exception.post.PostNotFoundException;
@@ -12,15 +13,25 @@ import hong.postService.repository.commentRepository.v2.CommentRepository;
 import hong.postService.repository.postRepository.v2.PostRepository;
 import hong.postService.service.commentService.dto.CommentCreateRequest;
 import hong.postService.service.commentService.dto.CommentResponse;
+import hong.postService.service.commentService.dto.CommentTreeResponse;
 import hong.postService.service.commentService.dto.CommentUpdateRequest;
+import hong.postService.service.commentService.event.CommentsRemovedEvent;
+import hong.postService.service.cursor.Cursor;
+import hong.postService.service.cursor.CursorResponse;
 import hong.postService.service.memberService.v2.MemberService;
 import hong.postService.service.postService.v2.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CommentService는 댓글에 대한 비즈니스 로직을 담당하는 서비스 계층입니다.
  *
@@ -29,6 +40,8 @@ import org.springframework.transaction.annotation.Transactional;
  *      댓글 조회 (Comment/CommentResponse 반환)
  *      게시글에 달린 전체 댓글 목록 조회 (Paging)
  *      댓글에 달린 전체 대댓글 목록 조회 (Paging)
+ *      게시글 댓글 / 대댓글 목록 조회 (Cursor)
+ *      게시글 댓글 트리 / 댓글 서브트리 조회 (path 범위 조회 한 번)
  *      댓글 삭제 (soft delete)
  */
 @Service
@@ -36,12 +49,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final MemberService memberService;
     private final PostService postService;
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글을 작성합니다.
+     * 회원/게시글의 댓글 컬렉션은 초기화하지 않으므로, 회원이나 게시글의 댓글 수와 무관하게 SQL 수가 일정합니다.
      *
      * @param postId 댓글을 작성할 게시글 ID
      * @param memberId 댓글을 작성할 회원 ID
@@ -58,11 +77,16 @@ public class CommentService {
         Post post = postService.getPost(postId);
 
         Comment comment = post.writeComment(request.getContent(), writer);
-        return commentRepository.save(comment).getId();
+        commentRepository.save(comment);
+        comment.assignPath();
+        postRepository.addCommentCount(postId, 1);
+
+        return comment.getId();
     }
 
     /**
      * 대댓글을 작성합니다.
+     * 부모 댓글의 대댓글/게시글은 로딩하지 않고 참조만으로 저장합니다.
      *
      * @param commentId 대댓글을 작성할 댓글 ID
      * @param memberId 댓글을 작성할 회원 ID
@@ -79,7 +103,12 @@ public class CommentService {
         Comment comment = getComment(commentId);
 
         Comment reply = comment.writeReply(request.getContent(), writer);
-        return commentRepository.save(reply).getId();
+        commentRepository.save(reply);
+        reply.assignPath();
+        commentRepository.addReplyCount(commentId, 1);
+        postRepository.addCommentCount(comment.getPost().getId(), 1);
+
+        return reply.getId();
     }
 
     /**
@@ -134,6 +163,100 @@ public class CommentService {
                 .map(CommentResponse::from);
     }
 
+    /**
+     * 게시글에 달린 댓글 목록을 커서 기반(keyset)으로 조회합니다.
+     * count 쿼리 없이 (createdDate, id) 기준으로 다음 size개만 조회하기 때문에, 댓글이 많아도 뒤쪽 페이지의 비용이 일정합니다.
+     *
+     * @param postId 댓글을 조회할 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 작성순 댓글 목록과 다음 커서
+     *
+     * @throws PostNotFoundException 존재하지 않거나 이미 삭제된 게시글인 경우
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorResponse<CommentResponse> getCommentsByPostByCursor(Long postId, String cursor, int size) {
+        postService.getPost(postId);
+
+        int pageSize = cursorPageSize(size);
+        Cursor after = Cursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> rows = after == null
+                ? commentRepository.findFirstByPost(postId, limit)
+                : commentRepository.findByPostAfter(postId, after.getCreatedDate(), after.getId(), limit);
+
+        return toCursorResponse(rows, pageSize);
+    }
+
+    /**
+     * 댓글에 달린 대댓글 목록을 커서 기반(keyset)으로 조회합니다.
+     *
+     * @param parentCommentId 대댓글을 조회할 댓글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 작성순 대댓글 목록과 다음 커서
+     *
+     * @throws CommentNotFoundException 존재하지 않거나 이미 삭제된 댓글인 경우
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorResponse<CommentResponse> getCommentsByParentCommentByCursor(Long parentCommentId, String cursor, int size) {
+        getComment(parentCommentId);
+
+        int pageSize = cursorPageSize(size);
+        Cursor after = Cursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> rows = after == null
+                ? commentRepository.findFirstByParent(parentCommentId, limit)
+                : commentRepository.findByParentAfter(parentCommentId, after.getCreatedDate(), after.getId(), limit);
+
+        return toCursorResponse(rows, pageSize);
+    }
+
+    private static int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    private static CursorResponse<CommentResponse> toCursorResponse(List<Comment> rows, int pageSize) {
+        List<CommentResponse> responses = new ArrayList<>();
+        for (Comment row : rows) responses.add(CommentResponse.from(row));
+
+        return CursorResponse.of(responses, pageSize, c -> new Cursor(c.getCreatedDate(), c.getId()));
+    }
+
+    /**
+     * 게시글의 댓글 트리 전체를 조회합니다.
+     * (post_id, path) 인덱스 범위 조회 한 번으로 읽고 메모리에서 트리로 조립하므로, 깊이와 무관하게 왕복 한 번입니다.
+     *
+     * @param postId 댓글을 조회할 게시글 ID
+     * @return 최상위 댓글 목록 (대댓글은 children으로 중첩, 형제는 작성 순)
+     *
+     * @throws PostNotFoundException 존재하지 않거나 이미 삭제된 게시글인 경우
+     */
+    public List<CommentTreeResponse> getCommentTree(Long postId) {
+        postService.getPost(postId);
+        return CommentTreeResponse.assemble(commentRepository.findThread(postId));
+    }
+
+    /**
+     * 댓글과 그 아래 모든 대댓글을 트리로 조회합니다.
+     *
+     * @param commentId 서브트리의 루트 댓글 ID
+     * @return 루트 댓글 노드 (대댓글은 children으로 중첩)
+     *
+     * @throws CommentNotFoundException 존재하지 않거나 이미 삭제된 댓글인 경우
+     */
+    public CommentTreeResponse getCommentSubtree(Long commentId) {
+        Comment comment = getComment(commentId);
+
+        //path가 없는 이전 댓글은 대댓글을 범위로 찾을 수 없음
+        if (comment.getPath() == null) return CommentTreeResponse.from(comment);
+
+        List<Comment> subtree = commentRepository.findSubtree(comment.getPost().getId(), comment.getPath());
+        return CommentTreeResponse.assemble(subtree).get(0);
+    }
+
     /**
      * 댓글을 수정합니다.
      *
@@ -153,7 +276,10 @@ public class CommentService {
     }
 
     /**
-     * 댓글을 삭제합니다.
+     * 댓글을 삭제합니다. 대댓글 서브트리도 함께 삭제됩니다.
+     * 서브트리는 path prefix 범위의 bulk update 한 번으로 soft delete합니다.
+     * (게시글에 path가 없는 댓글이 남아있으면 prefix 범위에서 빠지므로, ID를 단계별로 조회해서 삭제하며 SQL 수가 트리 깊이에 비례합니다.)
+     * bulk update 후 영속성 컨텍스트는 비워지므로, 이전에 조회한 엔티티는 다시 조회해야 합니다.
      *
      * @param commentId 삭제할 댓글 ID
      *
@@ -162,6 +288,52 @@ public class CommentService {
     @Transactional
     public void delete(Long commentId) {
         Comment comment = getComment(commentId);
-        comment.remove();
+        Long postId = comment.getPost().getId();
+        Long parentId = comment.getParentComment() == null ? null : comment.getParentComment().getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        //path가 없는 자손(backfill에서 깊이 제한을 넘은 댓글 등)은 prefix 범위에 걸리지 않으므로 부모 링크를 따라 삭제
+        boolean pathComplete = comment.getPath() != null && !commentRepository.existsByPostIdAndPathIsNullAndIsRemovedFalse(postId);
+        int removed = pathComplete
+                ? commentRepository.softDeleteSubtree(postId, comment.getPath(), now)
+                : softDeleteSubtreeByLevel(commentId, now);
+
+        //같은 댓글을 동시에 삭제한 경우 늦은 쪽은 0건 -> 카운터를 한 번 더 내리지 않음
+        if (removed == 0) return;
+
+        postRepository.addCommentCount(postId, -removed);
+        //서브트리 안의 카운터는 모두 삭제된 댓글이므로 직속 부모만 갱신
+        if (parentId != null) commentRepository.addReplyCount(parentId, -1);
+        eventPublisher.publishEvent(new CommentsRemovedEvent(postId, removed));
+    }
+
+    private int softDeleteSubtreeByLevel(Long rootId, LocalDateTime now) {
+        List<Long> ids = findSubtreeIds(rootId);
+
+        int removed = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            removed += commentRepository.softDeleteAllByIdIn(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())), now);
+        }
+        return removed;
+    }
+
+    /*
+    - 삭제되지 않은 자식만 따라 내려감 (이미 삭제된 댓글의 서브트리는 그때 함께 삭제됨)
+    - 단계마다 IN 쿼리 한 번
+     */
+    private List<Long> findSubtreeIds(Long rootId) {
+        List<Long> ids = new ArrayList<>();
+        ids.add(rootId);
+
+        List<Long> level = List.of(rootId);
+        while (!level.isEmpty()) {
+            List<Long> next = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += BULK_CHUNK_SIZE) {
+                next.addAll(commentRepository.findLiveChildIds(level.subList(from, Math.min(from + BULK_CHUNK_SIZE, level.size()))));
+            }
+            ids.addAll(next);
+            level = next;
+        }
+        return ids;
     }
 }
@@ -0,0 +1,55 @@
+package hong.postService.service.cursor;
+
+import hong.postService.exception.cursor.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset 페이징에서 마지막으로 읽은 행의 위치 (createdDate, id)
+ *
+ * - 클라이언트에는 Base64(URL-safe)로 인코딩한 불투명 토큰으로만 노출
+ * - 토큰 형식: "{createdDate(ISO-8601)}|{id}"
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 클라이언트가 전달한 커서 토큰
+     * @return 디코딩된 커서, 토큰이 비어있으면 첫 페이지를 의미하는 null
+     *
+     * @throws InvalidCursorException 토큰 형식이 잘못된 경우
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0 || idx == raw.length() - 1) throw new InvalidCursorException("decode: 커서 형식이 잘못됐습니다.");
+
+            LocalDateTime createdDate = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+
+            return new Cursor(createdDate, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("decode: 커서 형식이 잘못됐습니다.");
+        }
+    }
+}
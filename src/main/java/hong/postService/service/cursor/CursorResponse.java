@@ -0,0 +1,36 @@
+package hong.postService.service.cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset 페이징 응답
+ *
+ * - count 쿼리를 수행하지 않기 때문에 totalElements/totalPages는 제공하지 않음
+ * - nextCursor가 null이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * @param rows size + 1개까지 조회한 결과 - 초과분이 있으면 다음 페이지가 존재
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 마지막 행에서 다음 커서를 추출하는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
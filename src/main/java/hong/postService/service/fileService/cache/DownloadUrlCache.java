@@ -0,0 +1,86 @@
+package hong.postService.service.fileService.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import hong.postService.service.fileService.dto.DownloadUrlResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 발급한 다운로드 presign URL 캐시
+ *
+ * - 키는 file id (s3Key, 원본 파일명은 바뀌지 않으므로 같은 파일이면 같은 URL을 재사용해도 됨)
+ * - 각 URL은 만료 refresh-margin 전까지만 재사용하여, 클라이언트가 받은 URL이 곧바로 만료되지 않도록 함
+ * - 파일/게시글 삭제와 권한 검사는 매 요청 DB 조회에서 걸러지므로, 캐시는 서명 비용만 줄임
+ * - hit/miss 지표는 actuator의 cache.* 메트릭(cache=downloadUrl)으로 노출
+ */
+@Component
+public class DownloadUrlCache {
+
+    private final Cache<Long, DownloadUrlResponse> urlsByFileId;
+
+    public DownloadUrlCache(MeterRegistry meterRegistry,
+                            @Value("${file.download-url-cache.max-size:10000}") long maxSize,
+                            @Value("${file.download-url-cache.refresh-margin:60s}") Duration refreshMargin) {
+        this.urlsByFileId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new BeforeUrlExpiration(refreshMargin))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, urlsByFileId, "downloadUrl");
+    }
+
+    /**
+     * 캐시된 URL을 반환하고, 없으면 서명해서 캐시에 저장합니다.
+     */
+    public DownloadUrlResponse get(Long fileId, Function<Long, DownloadUrlResponse> signer) {
+        return urlsByFileId.get(fileId, signer);
+    }
+
+    /**
+     * 여러 파일의 URL을 반환합니다. 캐시에 없는 파일들만 모아 signer를 한 번 호출합니다.
+     *
+     * @param signer 캐시에 없는 file id들 -> 새로 서명한 URL
+     * @return file id -> URL
+     */
+    public Map<Long, DownloadUrlResponse> getAll(Collection<Long> fileIds,
+                                                 Function<Set<? extends Long>, Map<Long, DownloadUrlResponse>> signer) {
+        return urlsByFileId.getAll(fileIds, signer);
+    }
+
+    private static class BeforeUrlExpiration implements Expiry<Long, DownloadUrlResponse> {
+
+        private final Duration refreshMargin;
+
+        private BeforeUrlExpiration(Duration refreshMargin) {
+            this.refreshMargin = refreshMargin;
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, DownloadUrlResponse url, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), url.getExpiresAt()).minus(refreshMargin);
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, DownloadUrlResponse url, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, url, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, DownloadUrlResponse url, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서버가 오브젝트를 읽어 계산한 내용 해시 (SHA-256 hex, 바이트 수)
+ */
+@Getter
+@AllArgsConstructor
+public class ContentHash {
+
+    private String sha256;
+    private long size;
+}
@@ -0,0 +1,24 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class DownloadUrlsResponse {
+
+    List<Item> results;
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item{
+        private Long fileId;
+        private String originalFileName;
+        private String downloadUrl;
+        private final Instant expiresAt;
+    }
+}
@@ -0,0 +1,16 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 임시 업로드 파일(post/tmp/...)을 게시글 경로(post/{postId}/...)로 옮기는 작업 단위
+ */
+@Getter
+@AllArgsConstructor
+public class FilePromotion {
+
+    private String originalFileName;
+    private String tmpS3Key;
+    private String finalS3Key;
+}
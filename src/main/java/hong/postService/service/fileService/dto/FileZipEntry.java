@@ -0,0 +1,15 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ZIP 다운로드에 담을 파일 (ZIP 안의 이름, 스토리지 키)
+ */
+@Getter
+@AllArgsConstructor
+public class FileZipEntry {
+
+    private String entryName;
+    private String s3Key;
+}
@@ -0,0 +1,20 @@
+package hong.postService.service.fileService.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultipartPartUrlsRequest {
+
+    @NotBlank(message = "s3Key는 필수입니다.")
+    private String s3Key;
+    @NotEmpty(message = "partNumbers는 필수입니다.")
+    private List<Integer> partNumbers;
+}
@@ -0,0 +1,15 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MultipartPartUrlsResponse {
+
+    private List<MultipartUploadInitResponse.PartUrl> parts;
+    private Instant expiresAt;
+}
@@ -0,0 +1,15 @@
+package hong.postService.service.fileService.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultipartUploadAbortRequest {
+
+    @NotBlank(message = "s3Key는 필수입니다.")
+    private String s3Key;
+}
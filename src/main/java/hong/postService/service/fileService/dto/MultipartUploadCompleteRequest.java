@@ -0,0 +1,29 @@
+package hong.postService.service.fileService.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultipartUploadCompleteRequest {
+
+    @NotBlank(message = "s3Key는 필수입니다.")
+    private String s3Key;
+    @NotEmpty(message = "parts는 필수입니다.")
+    private List<Part> parts;
+
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Part{
+        private int partNumber;
+        private String etag;
+    }
+}
@@ -0,0 +1,18 @@
+package hong.postService.service.fileService.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultipartUploadInitRequest {
+
+    @NotBlank(message = "originalFileName은 필수입니다.")
+    private String originalFileName;
+    @Positive(message = "fileSize는 0보다 커야 합니다.")
+    private long fileSize;
+}
@@ -0,0 +1,28 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MultipartUploadInitResponse {
+
+    private String originalFileName;
+    private String s3Key;
+    private String storedFileName;
+    private String uploadId;
+    private long partSize;
+    private List<PartUrl> parts;
+    private Instant expiresAt;
+
+
+    @Getter
+    @AllArgsConstructor
+    public static class PartUrl{
+        private int partNumber;
+        private String uploadUrl;
+    }
+}
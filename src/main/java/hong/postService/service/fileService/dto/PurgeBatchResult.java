@@ -0,0 +1,20 @@
+package hong.postService.service.fileService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * soft delete 파일 purge 한 배치의 결과
+ *
+ * - lastId: 이번 배치에서 읽은 마지막 file_id (다음 배치의 keyset 시작점)
+ * - scanned: 읽은 파일 수 (0이면 더 이상 대상 없음)
+ *
+ * 읽은 파일은 모두 row가 삭제되고 오브젝트 삭제 요청이 outbox에 기록됨
+ */
+@Getter
+@AllArgsConstructor
+public class PurgeBatchResult {
+
+    private Long lastId;
+    private int scanned;
+}
@@ -0,0 +1,98 @@
+package hong.postService.service.fileService.v2;
+
+import hong.postService.domain.File;
+import hong.postService.domain.FileBlob;
+import hong.postService.repository.blobRepository.v2.FileBlobRepository;
+import hong.postService.repository.fileRepository.v2.FileRepository;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.service.fileService.dto.ContentHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 내용 기반(content-addressed) 첨부 파일 중복 제거 (file.dedup.enabled=true일 때만 사용)
+ *
+ * - 첨부 자체는 일반 모드와 같이 최종 s3Key로 복사만 하고 커밋 -> 게시글 작성/수정 시간이 첨부 크기와 무관
+ * - link: 커밋 이후 FileDedupJob이 서버만 쓰는 최종 오브젝트에서 계산한 해시로, 아직 blob이 없는 파일을 blob에 연결
+ *   -> 같은 내용의 blob이 있으면 refCount를 올려 가리키고, 파일 자신의 오브젝트는 삭제 (outbox)
+ *   -> 없으면 파일 자신의 오브젝트를 storageKey로 하는 blob을 만듦 (추가 복사 없음)
+ * - release: purge로 File row가 지워질 때 refCount를 내리고, 마지막 참조가 사라진 blob만 삭제 (오브젝트 삭제는 outbox로)
+ */
+@Component
+public class FileBlobStore {
+
+    private final boolean enabled;
+    private final FileRepository fileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final StorageDeleteOutboxService storageDeleteOutboxService;
+
+    public FileBlobStore(@Value("${file.dedup.enabled:false}") boolean enabled,
+                         FileRepository fileRepository,
+                         FileBlobRepository fileBlobRepository,
+                         StorageDeleteOutboxService storageDeleteOutboxService) {
+        this.enabled = enabled;
+        this.fileRepository = fileRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.storageDeleteOutboxService = storageDeleteOutboxService;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 아직 blob이 없는 파일을 같은 내용의 blob에 연결합니다.
+     * 파일 row를 잠그고 다시 확인하므로, 그 사이 삭제되었거나 이미 연결된 파일은 건너뜁니다.
+     *
+     * @param fileId 연결할 파일 ID
+     * @param hash 파일의 최종 오브젝트에서 계산한 해시
+     * @return 연결했으면 true, 건너뛰었으면 false
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 내용의 blob이 동시에 만들어진 경우 (다음 실행에서 다시 연결됨)
+     */
+    @Transactional
+    public boolean link(Long fileId, ContentHash hash) {
+        File file = fileRepository.findUnlinkedForUpdate(fileId).orElse(null);
+        if (file == null) return false;
+
+        //purge와 같은 row 잠금을 거치므로, 그 사이 삭제된 blob은 0건으로 걸러짐
+        Optional<FileBlob> existing = fileBlobRepository.findBySha256(hash.getSha256());
+        if (existing.isPresent() && fileBlobRepository.addRefCount(existing.get().getId(), 1) == 1) {
+            file.linkBlob(existing.get());
+            storageDeleteOutboxService.enqueue(List.of(file.getS3Key()));
+            return true;
+        }
+
+        FileBlob created = FileBlob.of(hash.getSha256(), file.getS3Key(), hash.getSize(), 1);
+        fileBlobRepository.saveAndFlush(created);
+        file.linkBlob(created);
+        return true;
+    }
+
+    /**
+     * purge로 지워진 File row만큼 blob의 refCount를 내리고, 참조가 없어진 blob row를 삭제합니다.
+     * File row를 먼저 지운 뒤 같은 트랜잭션에서 호출해야 합니다.
+     *
+     * @param refs blob ID별로 지워진 File row 수
+     * @return 마지막 참조가 사라져 삭제해야 하는 오브젝트 키
+     */
+    @Transactional
+    public List<String> release(Map<Long, Integer> refs) {
+        if (refs.isEmpty()) return List.of();
+
+        for (Map.Entry<Long, Integer> ref : refs.entrySet()) {
+            fileBlobRepository.addRefCount(ref.getKey(), -ref.getValue());
+        }
+
+        //refCount를 올리는 link와 같은 row 잠금을 거치므로, 동시에 재사용된 blob은 여기서 걸러짐
+        List<FileBlob> unreferenced = fileBlobRepository.findUnreferencedForUpdate(refs.keySet());
+
+        List<String> keys = new ArrayList<>();
+        for (FileBlob blob : unreferenced) keys.add(blob.getStorageKey());
+
+        fileBlobRepository.deleteAllInBatch(unreferenced);
+        return keys;
+    }
+}
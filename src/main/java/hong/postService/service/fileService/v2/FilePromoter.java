@@ -0,0 +1,153 @@
+package hong.postService.service.fileService.v2;
+
+import hong.postService.service.fileService.dto.ContentHash;
+import hong.postService.service.fileService.dto.FilePromotion;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.storage.ObjectStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부 파일 승격(tmp -> post/{postId}) 파이프라인
+ *
+ * - copyAll: 여러 파일의 ObjectStorage.copy를 제한된 스레드 풀에서 동시에 실행하고 모두 끝날 때까지 대기
+ *   -> 첨부 파일 수와 무관하게 대략 스토리지 왕복 1번의 지연, DB 트랜잭션 밖에서 호출
+ * - 일부 복사가 실패하면 이미 복사된 최종 오브젝트의 삭제 요청을 outbox에 남기고 첫 번째 예외를 그대로 던짐
+ * - hash: 중복 제거 모드에서 최종 오브젝트의 SHA-256을 계산 (스트리밍으로 읽어 파일 크기와 무관한 메모리)
+ * - 풀 상태는 actuator의 executor.* 메트릭(name=fileCopy)으로 노출
+ */
+@Component
+public class FilePromoter {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectStorage objectStorage;
+    private final StorageDeleteOutboxService storageDeleteOutboxService;
+
+    private final ThreadPoolExecutor copyExecutor;
+
+    public FilePromoter(ObjectStorage objectStorage,
+                        StorageDeleteOutboxService storageDeleteOutboxService,
+                        @Value("${file.promotion.threads:16}") int threads,
+                        MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.storageDeleteOutboxService = storageDeleteOutboxService;
+
+        //큐가 가득 차면 요청 스레드가 직접 복사 -> 풀 크기 이상으로 스레드가 늘지 않으면서 요청은 실패하지 않음
+        this.copyExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                new NamedThreadFactory("file-copy-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.copyExecutor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(copyExecutor, "fileCopy", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 임시 오브젝트들을 최종 경로로 동시에 복사합니다.
+     *
+     * @param promotions 복사할 파일 목록
+     * @throws RuntimeException 복사 중 하나라도 실패한 경우 (첫 번째 실패 원인)
+     */
+    public void copyAll(List<FilePromotion> promotions) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (FilePromotion promotion : promotions) {
+            futures.add(copyExecutor.submit(() -> objectStorage.copy(promotion.getTmpS3Key(), promotion.getFinalS3Key())));
+        }
+
+        List<String> copied = new ArrayList<>();
+        RuntimeException failure = null;
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+                copied.add(promotions.get(i).getFinalS3Key());
+            } catch (ExecutionException e) {
+                if (failure == null) failure = asRuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = new IllegalStateException("파일 복사 대기 중 인터럽트", e);
+            }
+        }
+
+        if (failure != null) {
+            storageDeleteOutboxService.enqueueInNewTransaction(copied);
+            throw failure;
+        }
+    }
+
+    /**
+     * 오브젝트를 스트리밍으로 읽어 내용 해시를 계산합니다. (FileDedupJob에서 커밋 이후 호출)
+     * 클라이언트가 보낸 해시는 믿을 수 없으므로 항상 스토리지에서 다시 읽어 계산합니다.
+     *
+     * @param key 해시를 계산할 오브젝트 키
+     * @return SHA-256과 크기
+     */
+    public ContentHash hash(String key) {
+        MessageDigest digest = sha256();
+        long size = 0;
+
+        try (InputStream in = objectStorage.open(key)) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+                size += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new ContentHash(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException asRuntimeException(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        copyExecutor.shutdown();
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package hong.postService.service.fileService.v2;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import hong.postService.domain.File;
 import hong.postService.domain.Post;
 import hong.postService.exception.file.FileNotFoundException;
@@ -10,27 +7,43 @@ import hong.postService.exception.file.InvalidFileFieldException;
 import hong.postService.exception.member.InvalidMemberFieldException;
 import hong.postService.exception.post.PostNotFoundException;
 import hong.postService.repository.fileRepository.v2.FileRepository;
+import hong.postService.repository.postRepository.v2.PostRepository;
+import hong.postService.service.fileService.cache.DownloadUrlCache;
 import hong.postService.service.fileService.dto.DownloadUrlResponse;
+import hong.postService.service.fileService.dto.DownloadUrlsResponse;
+import hong.postService.service.fileService.dto.FileZipEntry;
+import hong.postService.service.fileService.dto.MultipartPartUrlsRequest;
+import hong.postService.service.fileService.dto.MultipartPartUrlsResponse;
+import hong.postService.service.fileService.dto.MultipartUploadAbortRequest;
+import hong.postService.service.fileService.dto.MultipartUploadCompleteRequest;
+import hong.postService.service.fileService.dto.MultipartUploadInitRequest;
+import hong.postService.service.fileService.dto.MultipartUploadInitResponse;
+import hong.postService.service.fileService.dto.PurgeBatchResult;
 import hong.postService.service.fileService.dto.UploadUrlRequest;
 import hong.postService.service.fileService.dto.UploadUrlResponse;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.storage.ObjectStorage;
+import hong.postService.storage.UploadedPart;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.sql.Date;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Slf4j
 @Service
@@ -39,12 +52,20 @@ import java.util.List;
 public class FileService {
 
     private final FileRepository fileRepository;
-
-    private final AmazonS3Client amazonS3Client;
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final PostRepository postRepository;
+    private final StorageDeleteOutboxService storageDeleteOutboxService;
+    private final ObjectStorage objectStorage;
+    private final DownloadUrlCache downloadUrlCache;
+    private final FileBlobStore fileBlobStore;
 
     private static final Duration PRESIGN_TTL = Duration.ofMinutes(5);
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+
+    //멀티파트 업로드: 파트 URL은 큰 파일 업로드 동안 유지되도록 길게, 파트 크기는 고정
+    private static final Duration MULTIPART_PRESIGN_TTL = Duration.ofHours(1);
+    private static final long PART_SIZE = 8L * 1024 * 1024;
+    //tmp -> final 승격이 단일 copyObject(최대 5GB)로 처리되도록 상한을 둠
+    private static final long MAX_MULTIPART_FILE_SIZE = 5L * 1024 * 1024 * 1024;
 
     public UploadUrlResponse getUploadUrls(UploadUrlRequest request) {
         if (request == null || request.getOriginalFileNames().isEmpty()) throw new InvalidFileFieldException("createUploadUrls: request가 비어있음.");
@@ -60,14 +81,9 @@ public class FileService {
             String storedFileName = File.generateStoredFileName(originalFileName);
             String s3Key = "post/tmp/" + storedFileName;
 
-            //AWS SDK는 Date를 필요로 하고, Instant가 Date 타입을 반환
-            Instant now = Instant.now();
-            Instant expiresAt = now.plus(PRESIGN_TTL);
-
-            GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucket, s3Key, HttpMethod.PUT)
-                    .withExpiration(Date.from(expiresAt));
+            Instant expiresAt = Instant.now().plus(PRESIGN_TTL);
 
-            URL url = amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest);
+            URL url = objectStorage.presignUpload(s3Key, expiresAt);
 
             results.add(new UploadUrlResponse.Item(originalFileName, s3Key, storedFileName, url.toString(), expiresAt));
         }
@@ -75,6 +91,112 @@ public class FileService {
         return new UploadUrlResponse(results);
     }
 
+    /**
+     * 큰 파일의 멀티파트 업로드를 시작하고, 모든 파트의 업로드 URL을 발급합니다.
+     * 클라이언트는 파트들을 동시에 업로드하고 completeMultipartUpload를 호출한 뒤,
+     * 단일 업로드와 같은 s3Key로 게시글 작성/수정 시 첨부합니다.
+     *
+     * @param request originalFileName, fileSize
+     * @return uploadId, 임시 s3Key, 파트 크기와 파트별 업로드 URL
+     *
+     * @throws InvalidFileFieldException 파일명 형식이 잘못되었거나 크기가 0 이하 또는 5GB 초과인 경우
+     */
+    public MultipartUploadInitResponse initiateMultipartUpload(MultipartUploadInitRequest request) {
+        if (request == null || request.getOriginalFileName() == null) throw new InvalidFileFieldException("initiateMultipartUpload: originalFileName == null");
+        if (request.getFileSize() <= 0 || request.getFileSize() > MAX_MULTIPART_FILE_SIZE) {
+            throw new InvalidFileFieldException("initiateMultipartUpload: fileSize는 1 ~ 5GB 이어야 합니다.");
+        }
+
+        String originalFileName = request.getOriginalFileName();
+        File.validateOriginalFileName(originalFileName);
+
+        String storedFileName = File.generateStoredFileName(originalFileName);
+        String s3Key = "post/tmp/" + storedFileName;
+
+        String uploadId = objectStorage.initiateMultipartUpload(s3Key);
+
+        int partCount = (int) ((request.getFileSize() + PART_SIZE - 1) / PART_SIZE);
+        List<Integer> partNumbers = new ArrayList<>();
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) partNumbers.add(partNumber);
+
+        Instant expiresAt = Instant.now().plus(MULTIPART_PRESIGN_TTL);
+
+        return new MultipartUploadInitResponse(originalFileName, s3Key, storedFileName, uploadId, PART_SIZE,
+                presignParts(s3Key, uploadId, partNumbers, expiresAt), expiresAt);
+    }
+
+    /**
+     * 일부 파트의 업로드 URL을 다시 발급합니다. (URL 만료 후 실패한 파트 재시도용)
+     *
+     * @throws InvalidFileFieldException s3Key가 임시 s3Key 형식이 아니거나 partNumber가 잘못된 경우
+     */
+    public MultipartPartUrlsResponse getMultipartPartUrls(String uploadId, MultipartPartUrlsRequest request) {
+        validateMultipartTarget(uploadId, request.getS3Key(), "getMultipartPartUrls");
+
+        int maxPartNumber = (int) (MAX_MULTIPART_FILE_SIZE / PART_SIZE);
+        for (Integer partNumber : request.getPartNumbers()) {
+            if (partNumber == null || partNumber < 1 || partNumber > maxPartNumber) {
+                throw new InvalidFileFieldException("getMultipartPartUrls: 잘못된 partNumber");
+            }
+        }
+
+        Instant expiresAt = Instant.now().plus(MULTIPART_PRESIGN_TTL);
+
+        return new MultipartPartUrlsResponse(presignParts(request.getS3Key(), uploadId, request.getPartNumbers(), expiresAt), expiresAt);
+    }
+
+    /**
+     * 업로드된 파트들을 합쳐 임시 오브젝트를 완성합니다.
+     *
+     * @throws InvalidFileFieldException s3Key가 임시 s3Key 형식이 아니거나 파트 목록이 잘못된 경우
+     */
+    public void completeMultipartUpload(String uploadId, MultipartUploadCompleteRequest request) {
+        validateMultipartTarget(uploadId, request.getS3Key(), "completeMultipartUpload");
+
+        List<UploadedPart> parts = new ArrayList<>();
+        for (MultipartUploadCompleteRequest.Part part : request.getParts()) {
+            if (part.getEtag() == null) throw new InvalidFileFieldException("completeMultipartUpload: etag == null");
+            parts.add(new UploadedPart(part.getPartNumber(), part.getEtag()));
+        }
+        parts.sort(Comparator.comparingInt(UploadedPart::getPartNumber));
+
+        try {
+            objectStorage.completeMultipartUpload(request.getS3Key(), uploadId, parts);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFileFieldException("completeMultipartUpload: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 멀티파트 업로드를 취소하고 업로드된 파트를 버립니다.
+     *
+     * @throws InvalidFileFieldException s3Key가 임시 s3Key 형식이 아닌 경우
+     */
+    public void abortMultipartUpload(String uploadId, MultipartUploadAbortRequest request) {
+        validateMultipartTarget(uploadId, request.getS3Key(), "abortMultipartUpload");
+
+        try {
+            objectStorage.abortMultipartUpload(request.getS3Key(), uploadId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFileFieldException("abortMultipartUpload: " + e.getMessage());
+        }
+    }
+
+    private static void validateMultipartTarget(String uploadId, String s3Key, String method) {
+        if (uploadId == null || uploadId.isBlank()) throw new InvalidFileFieldException(method + ": uploadId가 비어있음.");
+        if (s3Key == null) throw new InvalidFileFieldException(method + ": s3Key == null");
+        File.validateTmpS3KeyFormat(s3Key);
+    }
+
+    private List<MultipartUploadInitResponse.PartUrl> presignParts(String s3Key, String uploadId, List<Integer> partNumbers, Instant expiresAt) {
+        List<MultipartUploadInitResponse.PartUrl> parts = new ArrayList<>();
+        for (Integer partNumber : partNumbers) {
+            URL url = objectStorage.presignUploadPart(s3Key, uploadId, partNumber, expiresAt);
+            parts.add(new MultipartUploadInitResponse.PartUrl(partNumber, url.toString()));
+        }
+        return parts;
+    }
+
     public DownloadUrlResponse getDownloadUrl(Long fileId, Long requesterId) {
         File file = fileRepository.findByIdAndIsRemovedFalse(fileId)
                 .orElseThrow(() -> new FileNotFoundException(fileId));
@@ -82,20 +204,134 @@ public class FileService {
         Post post = file.getPost();
         if (post.isRemoved()) throw new PostNotFoundException(post.getId());
 
-        if (post.getWriter().getId() != requesterId) throw new InvalidMemberFieldException("getDownloadUrl: 권한이 없습니디.");
+        checkWriter(post, requesterId, "getDownloadUrl");
 
-        String originalFileName = file.getOriginalFileName();
-        String contentDisposition = buildContentDisposition(originalFileName);
+        return downloadUrlCache.get(file.getId(), id -> sign(file));
+    }
 
-        String s3Key = file.getS3Key();
-        Instant expiresAt = Instant.now().plus(PRESIGN_TTL);
+    /**
+     * 게시글의 모든 첨부 파일 다운로드 URL을 한 번에 발급합니다.
+     * 파일과 게시글은 쿼리 한 번으로 조회하고, 캐시에 없는 파일만 서명합니다.
+     *
+     * @param postId 게시글 ID
+     * @param requesterId 요청한 회원 ID (게시글 작성자만 허용)
+     * @return 파일별 다운로드 URL (file id 순)
+     *
+     * @throws PostNotFoundException 존재하지 않거나 이미 삭제된 게시글의 경우
+     * @throws InvalidMemberFieldException 게시글 작성자가 아닌 경우
+     */
+    public DownloadUrlsResponse getDownloadUrls(Long postId, Long requesterId) {
+        List<File> files = findLiveFilesForWriter(postId, requesterId, "getDownloadUrls");
+
+        Map<Long, File> filesById = new LinkedHashMap<>();
+        for (File file : files) filesById.put(file.getId(), file);
+
+        Map<Long, DownloadUrlResponse> urls = downloadUrlCache.getAll(filesById.keySet(), missing -> {
+            Map<Long, DownloadUrlResponse> signed = new HashMap<>();
+            for (Long id : missing) signed.put(id, sign(filesById.get(id)));
+            return signed;
+        });
+
+        List<DownloadUrlsResponse.Item> results = new ArrayList<>();
+        for (File file : files) {
+            DownloadUrlResponse url = urls.get(file.getId());
+            results.add(new DownloadUrlsResponse.Item(file.getId(), file.getOriginalFileName(), url.getDownloadUrl(), url.getExpiresAt()));
+        }
+
+        return new DownloadUrlsResponse(results);
+    }
 
-        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucket, s3Key, HttpMethod.GET)
-                .withExpiration(java.util.Date.from(expiresAt));
+    /**
+     * 게시글의 모든 첨부 파일을 ZIP으로 내려받기 위한 목록을 조회합니다.
+     * 스트리밍은 트랜잭션 밖(writeZip)에서 하므로, DB 조회는 여기서 끝냅니다.
+     *
+     * @param postId 게시글 ID
+     * @param requesterId 요청한 회원 ID (게시글 작성자만 허용)
+     * @return ZIP에 담을 파일 목록 (같은 이름은 "name (1).ext" 형태로 구분)
+     *
+     * @throws PostNotFoundException 존재하지 않거나 이미 삭제된 게시글의 경우
+     * @throws InvalidMemberFieldException 게시글 작성자가 아닌 경우
+     */
+    public List<FileZipEntry> getZipEntries(Long postId, Long requesterId) {
+        List<File> files = findLiveFilesForWriter(postId, requesterId, "getZipEntries");
 
-        generatePresignedUrlRequest.addRequestParameter("response-content-disposition", contentDisposition);
+        Set<String> usedNames = new HashSet<>();
+        List<FileZipEntry> entries = new ArrayList<>();
+        for (File file : files) {
+            entries.add(new FileZipEntry(uniqueEntryName(file.getOriginalFileName(), usedNames), file.getStorageKey()));
+        }
+        return entries;
+    }
+
+    /**
+     * 파일들을 스토리지에서 읽어 ZIP으로 out에 바로 씁니다.
+     * 파일마다 스트림을 열어 고정 크기 버퍼로 복사하므로, 파일 크기/개수와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param entries getZipEntries의 결과
+     * @param out 응답 스트림 (닫지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeZip(List<FileZipEntry> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        //첨부 파일은 대부분 이미 압축된 형식이라 압축률보다 속도를 우선
+        zip.setLevel(Deflater.BEST_SPEED);
 
-        URL url = amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest);
+        byte[] buffer = new byte[ZIP_BUFFER_SIZE];
+        for (FileZipEntry entry : entries) {
+            zip.putNextEntry(new ZipEntry(entry.getEntryName()));
+
+            try (InputStream in = objectStorage.open(entry.getS3Key())) {
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, n);
+                }
+            }
+
+            zip.closeEntry();
+        }
+
+        zip.finish();
+        zip.flush();
+    }
+
+    /*
+    - ZIP 안의 경로 구분자는 허용하지 않음 (압축 해제 시 다른 경로에 쓰이지 않도록)
+     */
+    private static String uniqueEntryName(String originalFileName, Set<String> usedNames) {
+        String name = originalFileName.replace('/', '_').replace('\\', '_');
+        if (usedNames.add(name)) return name;
+
+        int dot = name.lastIndexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot);
+        String extension = dot < 0 ? "" : name.substring(dot);
+
+        for (int i = 1; ; i++) {
+            String candidate = base + " (" + i + ")" + extension;
+            if (usedNames.add(candidate)) return candidate;
+        }
+    }
+
+    private List<File> findLiveFilesForWriter(Long postId, Long requesterId, String method) {
+        List<File> files = fileRepository.findAllLiveWithPost(postId);
+
+        //파일이 없으면 게시글 존재/권한만 확인
+        Post post = files.isEmpty()
+                ? postRepository.findByIdAndIsRemovedFalse(postId).orElseThrow(() -> new PostNotFoundException(postId))
+                : files.get(0).getPost();
+
+        checkWriter(post, requesterId, method);
+        return files;
+    }
+
+    private static void checkWriter(Post post, Long requesterId, String method) {
+        if (!Objects.equals(post.getWriter().getId(), requesterId)) throw new InvalidMemberFieldException(method + ": 권한이 없습니디.");
+    }
+
+    private DownloadUrlResponse sign(File file) {
+        String contentDisposition = buildContentDisposition(file.getOriginalFileName());
+        Instant expiresAt = Instant.now().plus(PRESIGN_TTL);
+
+        URL url = objectStorage.presignDownload(file.getStorageKey(), expiresAt, contentDisposition);
 
         return new DownloadUrlResponse(url.toString(), expiresAt);
     }
@@ -111,21 +347,35 @@ public class FileService {
         }
     }
 
+    /**
+     * 유예 기간이 지난 soft delete 파일을 한 배치 purge합니다.
+     * 오브젝트 삭제 요청을 outbox에 기록하고 row를 hard delete하는 것을 한 트랜잭션으로 처리하므로,
+     * S3 호출 없이 끝나고 삭제 요청이 유실되지 않습니다. 실제 삭제는 StorageDeleteDispatcher가 수행합니다.
+     * blob을 가리키는 파일은 row를 지운 뒤 참조 수를 내리고, 마지막 참조가 사라진 blob의 오브젝트만 삭제 요청합니다.
+     *
+     * @param threshold 이 시각 이전에 삭제된 파일만 대상
+     * @param afterId 이전 배치의 lastId (처음은 0)
+     * @param batchSize 한 번에 읽을 파일 수
+     * @return 배치 결과 (다음 keyset 시작점, 처리 수)
+     */
     @Transactional
-    public int purgeSoftDeletedFilesBefore(LocalDateTime threshold, int batchSize) {
-        Pageable pageable = PageRequest.of(0, batchSize);
-        List<File> targets = fileRepository.findByIsRemovedTrueAndRemovedBefore(threshold, pageable).getContent();
-
-        int success = 0;
-        for (File f : targets) {
-            try {
-                amazonS3Client.deleteObject(bucket, f.getS3Key());
-                success++;
-            } catch (RuntimeException ex) {
-                log.warn("S3 delete failed, key={}", f.getS3Key(), ex);
-            }
+    public PurgeBatchResult purgeSoftDeletedFilesBefore(LocalDateTime threshold, Long afterId, int batchSize) {
+        List<File> targets = fileRepository.findPurgeTargets(threshold, afterId, PageRequest.of(0, batchSize));
+        if (targets.isEmpty()) return new PurgeBatchResult(afterId, 0);
+
+        List<String> keys = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Integer> blobRefs = new HashMap<>();
+        for (File target : targets) {
+            if (target.getBlob() == null) keys.add(target.getS3Key());
+            else blobRefs.merge(target.getBlob().getId(), 1, Integer::sum);
+            ids.add(target.getId());
         }
 
-        return success;
+        fileRepository.deleteRemovedByIdIn(ids);
+        keys.addAll(fileBlobStore.release(blobRefs));
+        storageDeleteOutboxService.enqueue(keys);
+
+        return new PurgeBatchResult(ids.get(ids.size() - 1), targets.size());
     }
 }
@@ -5,6 +5,7 @@ import hong.postService.domain.UserRole;
 import hong.postService.exception.member.DuplicateMemberFieldException;
 import hong.postService.exception.member.InvalidMemberFieldException;
 import hong.postService.exception.member.MemberNotFoundException;
+import hong.postService.exception.member.PasswordHashingBusyException;
 import hong.postService.exception.member.PasswordMismatchException;
 import hong.postService.repository.memberRepository.v2.MemberRepository;
 import hong.postService.service.memberService.dto.MemberUpdateInfoRequest;
@@ -12,7 +13,7 @@ import hong.postService.service.memberService.dto.OAuthCreateRequest;
 import hong.postService.service.memberService.dto.PasswordUpdateRequest;
 import hong.postService.service.memberService.dto.UserCreateRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +39,7 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final BCryptPasswordEncoder encoder;
+    private final PasswordEncoder encoder;
 
 //business 로직-------------------------------------------------------------
 
@@ -179,6 +180,7 @@ public class MemberService {
      * @throws PasswordMismatchException 현재 비밀번호가 일치하지 않는 경우
      * @throws DuplicateMemberFieldException 새 비밀번호가 중복된 경우
      * @throws InvalidMemberFieldException 새 비밀번호가 기존과 같은 경우
+     * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찬 경우
      */
     @Transactional
     public void updatePasswordOfNotOAuthMember(Long memberId, PasswordUpdateRequest updateParam) {
@@ -0,0 +1,96 @@
+package hong.postService.service.outboxService.v2;
+
+import hong.postService.domain.StorageDeleteOutbox;
+import hong.postService.repository.outboxRepository.v2.StorageDeleteOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * StorageDeleteOutboxService는 스토리지 오브젝트 삭제 요청(outbox)의 기록과 처리 상태를 담당하는 서비스 계층입니다.
+ *
+ * 주요 기능:
+ *      삭제 요청 기록 (File 변경과 같은 트랜잭션 / 실패한 트랜잭션의 보상용 새 트랜잭션)
+ *      처리할 요청 선점 (lease)
+ *      처리 결과 반영 (성공 시 제거, 실패 시 backoff 후 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StorageDeleteOutboxService {
+
+    private final StorageDeleteOutboxRepository outboxRepository;
+
+    /**
+     * 현재 트랜잭션에 삭제 요청을 기록합니다. 트랜잭션이 롤백되면 요청도 함께 사라집니다.
+     *
+     * @param storageKeys 삭제할 오브젝트 키
+     */
+    public void enqueue(Collection<String> storageKeys) {
+        if (storageKeys == null || storageKeys.isEmpty()) return;
+
+        List<StorageDeleteOutbox> outboxes = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(storageKeys)) {
+            outboxes.add(StorageDeleteOutbox.of(key));
+        }
+        outboxRepository.saveAll(outboxes);
+    }
+
+    /**
+     * 별도 트랜잭션으로 삭제 요청을 기록합니다.
+     * 실패한 트랜잭션이 남긴 오브젝트(복사된 최종 오브젝트 등)를 정리할 때 사용합니다.
+     *
+     * @param storageKeys 삭제할 오브젝트 키
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(Collection<String> storageKeys) {
+        enqueue(storageKeys);
+    }
+
+    /**
+     * 처리할 차례가 된 요청을 잠그고 lease 시각까지 다른 처리에서 제외합니다.
+     *
+     * @param batchSize 최대 선점 개수
+     * @param lease 처리 제한 시간 (이 시간 안에 결과가 반영되지 않으면 다시 처리 대상이 됨)
+     * @return 선점한 요청 ID -> 오브젝트 키
+     */
+    public Map<Long, String> claim(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeleteOutbox> due = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+
+        Map<Long, String> claimed = new LinkedHashMap<>();
+        for (StorageDeleteOutbox outbox : due) {
+            outbox.lease(now.plus(lease));
+            claimed.put(outbox.getId(), outbox.getStorageKey());
+        }
+        return claimed;
+    }
+
+    /**
+     * 삭제에 성공한 요청은 제거하고, 실패한 요청은 backoff 후 재시도하도록 미룹니다.
+     *
+     * @param succeededIds 삭제에 성공한 요청 ID
+     * @param failures 실패한 요청 ID -> 실패 사유
+     */
+    public void complete(Collection<Long> succeededIds, Map<Long, String> failures) {
+        if (!succeededIds.isEmpty()) outboxRepository.deleteAllByIdInBatch(succeededIds);
+
+        if (failures.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        for (StorageDeleteOutbox outbox : outboxRepository.findAllById(failures.keySet())) {
+            outbox.failed(failures.get(outbox.getId()), now);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxRepository.countByNextAttemptAtLessThanEqual(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,94 @@
+package hong.postService.service.postService.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hong.postService.service.postService.dto.PostDetailResponse;
+import hong.postService.service.postService.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회(PostDetailResponse) read-through 캐시
+ *
+ * - 키는 (postId, version)이며, 게시글이 작성/수정/삭제되면 해당 게시글에 새 version을 부여해 이전 항목을 더 이상 조회하지 않게 함
+ *   (이전 항목은 크기/TTL 기준으로 자연스럽게 evict)
+ * - version은 전역 epoch에서 발급하여 한 번 쓴 값을 다시 쓰지 않음
+ *   -> 게시글의 version이 versions에서 밀려나도 새로 발급한 version은 남아있는 이전 상세 항목과 겹치지 않음 (상세 캐시를 뒤질 필요 없음)
+ * - 파일 추가/삭제도 PostService.update를 거치므로 같은 이벤트로 함께 무효화됨
+ * - version은 커밋/롤백 완료 후에 올림 -> 커밋 전 데이터를 읽어 캐시에 넣은 요청이 있어도 완료 이후 요청은 새 version으로 다시 조회
+ * - 쓰기 트랜잭션 안에서의 조회는 캐시를 거치지 않음 (자신의 커밋 전 변경을 읽고, 그 값을 다른 요청에 노출하지 않기 위해)
+ * - 작성자 nickname 변경은 이벤트가 없으므로 최대 TTL 동안 이전 nickname이 보일 수 있음
+ * - hit/miss/eviction 지표는 actuator의 cache.* 메트릭(cache=postDetail)으로 노출
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Key, PostDetailResponse> details;
+
+    /*
+    - 게시글별 현재 version (epoch에서 발급)
+    - 크기/TTL로 밀려나면 다음 조회 때 새 version을 발급받으므로, 그 게시글의 이전 상세 항목은 조회되지 않고 TTL로 사라짐 (캐시 miss 한 번)
+     */
+    private final Cache<Long, Long> versions;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${cache.post-detail.max-size:10000}") long maxSize,
+                           @Value("${cache.post-detail.ttl:60s}") Duration ttl) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "postDetail");
+    }
+
+    /**
+     * 캐시된 상세 응답을 반환하고, 없으면 loader로 조회해서 캐시에 저장합니다.
+     * loader에서 발생한 예외(PostNotFoundException 등)는 그대로 전파되고 캐시되지 않습니다.
+     *
+     * @param postId 조회할 게시글 ID
+     * @param loader 캐시 miss 시 DB에서 상세 응답을 만드는 함수
+     * @return 게시글 상세 응답 DTO
+     */
+    public PostDetailResponse get(Long postId, Function<Long, PostDetailResponse> loader) {
+        if (isInReadWriteTransaction()) {
+            return loader.apply(postId);
+        }
+
+        Key key = new Key(postId, currentVersion(postId));
+        return details.get(key, k -> loader.apply(k.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        versions.put(event.getPostId(), epoch.incrementAndGet());
+    }
+
+    private long currentVersion(Long postId) {
+        return versions.get(postId, id -> epoch.incrementAndGet());
+    }
+
+    private static boolean isInReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Key(Long postId, long version) {
+    }
+}
@@ -0,0 +1,103 @@
+package hong.postService.service.postService.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hong.postService.service.commentService.event.CommentsRemovedEvent;
+import hong.postService.service.postService.dto.PostSummaryResponse;
+import hong.postService.service.postService.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 전체 게시글 목록 앞쪽 페이지(findSummaries + count) 캐시
+ *
+ * - 트래픽이 몰리는 첫 N 페이지만 캐시하고, 그 뒤 페이지는 항상 DB에서 조회
+ * - 게시글 작성/수정/삭제 시 generation을 올려 모든 페이지를 한 번에 무효화 (게시글 하나가 모든 페이지의 경계를 밀어내기 때문)
+ * - 댓글 일괄 삭제(CommentsRemovedEvent)도 목록의 댓글 수를 바꾸므로 함께 무효화
+ * - 댓글 작성 등 이벤트가 없는 변경은 짧은 TTL 동안만 이전 값이 보임
+ * - 쓰기 트랜잭션 안에서의 조회는 캐시를 거치지 않음
+ * - hit/miss/eviction 지표는 actuator의 cache.* 메트릭(cache=postList)으로 노출
+ */
+@Component
+public class PostListCache {
+
+    private static final int MAX_CACHED_PAGE_SIZE = 100;
+
+    private final Cache<Key, Page<PostSummaryResponse>> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final int cachedPages;
+
+    public PostListCache(MeterRegistry meterRegistry,
+                         @Value("${cache.post-list.pages:5}") int cachedPages,
+                         @Value("${cache.post-list.ttl:10s}") Duration ttl) {
+        this.cachedPages = cachedPages;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "postList");
+    }
+
+    /**
+     * 캐시 대상 페이지면 캐시된 결과를 반환하고, 없으면 loader로 조회해서 캐시에 저장합니다.
+     * 캐시 대상이 아닌 페이지는 항상 loader로 조회합니다.
+     *
+     * @param pageable 페이징 및 정렬 정보
+     * @param loader DB에서 페이지를 조회하는 함수
+     * @return 게시글 요약 페이지
+     */
+    public Page<PostSummaryResponse> get(Pageable pageable, Function<Pageable, Page<PostSummaryResponse>> loader) {
+        if (!isCacheable(pageable) || isInReadWriteTransaction()) {
+            return loader.apply(pageable);
+        }
+
+        Key key = new Key(generation.get(), pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return pages.get(key, k -> loader.apply(pageable));
+    }
+
+    /*
+    - 이전 generation 항목은 더 이상 조회되지 않으므로 바로 비워서 메모리만 정리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onCommentsRemoved(CommentsRemovedEvent event) {
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getPageNumber() < cachedPages
+                && pageable.getPageSize() <= MAX_CACHED_PAGE_SIZE;
+    }
+
+    private static boolean isInReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Key(long generation, int page, int size, Sort sort) {
+    }
+}
@@ -20,14 +20,17 @@ public class PostSummaryResponse {
 
     private boolean includingFile;
 
+    /**
+     * Post의 비정규화 카운터(commentCount, fileCount)를 그대로 읽는 프로젝션
+     */
     @QueryProjection
     public PostSummaryResponse(Long id, String title, String writerNickname,
-                               LocalDateTime createdDate, Long commentCount, Boolean includingFile) {
+                               LocalDateTime createdDate, Integer commentCount, Integer fileCount) {
         this.id = id;
         this.title = title;
         this.writerNickname = writerNickname;
         this.createdDate = createdDate;
-        this.commentCount = commentCount == null ? 0 : commentCount.intValue();
-        this.includingFile = includingFile != null && includingFile;
+        this.commentCount = commentCount == null ? 0 : commentCount;
+        this.includingFile = fileCount != null && fileCount > 0;
     }
 }
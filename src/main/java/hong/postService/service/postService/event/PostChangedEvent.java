@@ -0,0 +1,29 @@
+package hong.postService.service.postService.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 작성/수정/삭제 시 PostService가 발행하는 이벤트
+ *
+ * - 검색 인덱스, 캐시 등 게시글 파생 데이터를 갱신하기 위해 사용
+ * - 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 받아서, 롤백된 변경이 반영되지 않도록 함
+ * - DELETED인 경우 title, content는 null
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        WRITTEN, UPDATED, DELETED
+    }
+
+    private final Long postId;
+    private final Type type;
+    private final String title;
+    private final String content;
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, Type.DELETED, null, null);
+    }
+}
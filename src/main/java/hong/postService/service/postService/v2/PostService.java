@@ -1,39 +1,57 @@
 package hong.postService.service.postService.v2;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import hong.postService.domain.File;
 import hong.postService.domain.Member;
 import hong.postService.domain.Post;
+import hong.postService.exception.cursor.InvalidCursorException;
 import hong.postService.exception.file.FileNotFoundException;
 import hong.postService.exception.file.InvalidFileFieldException;
 import hong.postService.exception.member.MemberNotFoundException;
 import hong.postService.exception.post.InvalidPostFieldException;
 import hong.postService.exception.post.PostNotFoundException;
+import hong.postService.repository.commentRepository.v2.CommentRepository;
 import hong.postService.repository.fileRepository.v2.FileRepository;
 import hong.postService.repository.postRepository.v2.PostRepository;
 import hong.postService.repository.postRepository.v2.SearchCond;
+import hong.postService.search.PostSearchIndex;
+import hong.postService.service.cursor.Cursor;
+import hong.postService.service.commentService.event.CommentsRemovedEvent;
+import hong.postService.service.cursor.CursorResponse;
 import hong.postService.service.fileService.dto.FileCreateRequest;
+import hong.postService.service.fileService.dto.FilePromotion;
+import hong.postService.service.fileService.v2.FileBlobStore;
+import hong.postService.service.fileService.v2.FilePromoter;
+import hong.postService.service.postService.cache.PostDetailCache;
+import hong.postService.service.postService.cache.PostListCache;
 import hong.postService.service.memberService.v2.MemberService;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
 import hong.postService.service.postService.dto.PostCreateRequest;
 import hong.postService.service.postService.dto.PostDetailResponse;
 import hong.postService.service.postService.dto.PostSummaryResponse;
 import hong.postService.service.postService.dto.PostUpdateRequest;
+import hong.postService.service.postService.event.PostChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tomcat.util.http.fileupload.FileUploadException;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * PostService는 게시글에 대한 비즈니스 로직을 담당하는 서비스 계층입니다.
@@ -42,8 +60,9 @@ import java.util.*;
  *      게시글 작성
  *      게시글 조회
  *      게시글 상세 조회
- *      전체 게시글 목록 조회 (Paging)
- *      게시글 검색 (writer, title)
+ *      전체 게시글 목록 조회 (Paging / Cursor)
+ *      게시글 검색 (writer, title) (Paging / Cursor)
+ *      게시글 전문 검색 (keyword - title, content)
  *      회원이 작성한 전체 게시글 목록 조회 (Paging)
  *      게시글 수정 (title, content, files)
  *      게시글 삭제 (soft delete)
@@ -54,16 +73,27 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final MemberService memberService;
     private final PostRepository postRepository;
     private final FileRepository fileRepository;
-
-    private final AmazonS3Client amazonS3Client;
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDetailCache postDetailCache;
+    private final PostListCache postListCache;
+    private final PlatformTransactionManager transactionManager;
+    private final FilePromoter filePromoter;
+    private final FileBlobStore fileBlobStore;
+    private final StorageDeleteOutboxService storageDeleteOutboxService;
 
     /**
      * 게시글을 새로 작성합니다.
+     * 첨부 파일이 있으면 게시글을 숨긴 채로 먼저 저장한 뒤, S3 복사는 트랜잭션 밖에서 동시에 수행하고
+     * File 저장과 게시글 공개는 짧은 트랜잭션 하나로 처리합니다. (그 전에는 목록/상세 조회와 댓글 작성에서 보이지 않음)
+     * 임시 오브젝트 삭제는 File 저장과 같은 트랜잭션에 outbox로 기록하고, 실패하면 복사된 오브젝트 삭제를 기록하며 게시글은 숨긴 채로 남습니다.
+     * 중복 제거 모드(file.dedup.enabled)에서도 같은 경로로 첨부하고, 같은 내용의 blob 연결은 커밋 이후 FileDedupJob이 수행합니다.
      *
      * @param memberId 게시글을 작성할 회원 ID
      * @param request title, content, List<FileCreateRequest를 포함한 생성 DTO
@@ -73,32 +103,94 @@ public class PostService {
      * @throws InvalidPostFieldException null 값이 경우
      * @throws InvalidFileFieldException File 생성 요청이 잘못된 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long write(Long memberId, PostCreateRequest request) {
-        Member member = memberService.findMember(memberId);
-
         if (request.getTitle() == null) throw new InvalidPostFieldException("write: title == null");
         if (request.getContent() == null) throw new InvalidPostFieldException("write: content == null");
 
+        List<FileCreateRequest> fileCreateRequests = request.getFiles();
+
+        if (fileCreateRequests == null || fileCreateRequests.isEmpty()) {
+            return inTransaction(() -> {
+                Post post = createPost(memberId, request);
+                publishWritten(post);
+                return post.getId();
+            });
+        }
+
+        validateFileCreateRequests(fileCreateRequests);
+
+        //최종 s3Key에 postId가 필요하므로 먼저 저장하되, 파일이 붙기 전에는 공개하지 않음
+        Long postId = inTransaction(() -> createHiddenPost(memberId, request).getId());
+        List<FilePromotion> promotions = toPromotions(fileCreateRequests, postId);
+
+        //실패하면 게시글은 숨긴 채로 남으므로 되돌릴 것이 없음 (댓글/이벤트/캐시에 노출된 적 없음)
+        promoteAndAttach(promotions, () -> {
+            Post post = postRepository.findById(postId).orElseThrow(() -> new PostNotFoundException(postId));
+            post.publish();
+            attachPromotedFiles(post, promotions);
+            storageDeleteOutboxService.enqueue(tmpKeys(promotions));
+            publishWritten(post);
+        });
+
+        return postId;
+    }
+
+    /*
+    - 복사는 트랜잭션 밖에서, File 저장(attach)은 짧은 트랜잭션으로 수행
+    - 복사 실패 시 이미 복사된 오브젝트의 정리는 FilePromoter가, 저장 실패 시 복사된 오브젝트의 정리는 여기서 기록
+     */
+    private void promoteAndAttach(List<FilePromotion> promotions, Runnable attach) {
+        filePromoter.copyAll(promotions);
+
+        try {
+            inTransaction(() -> {
+                attach.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            //정리 기록이 실패해도 원래 실패 원인을 덮지 않음
+            try {
+                storageDeleteOutboxService.enqueueInNewTransaction(finalKeys(promotions));
+            } catch (RuntimeException cleanupFailure) {
+                e.addSuppressed(cleanupFailure);
+            }
+            throw e;
+        }
+    }
+
+    private Post createPost(Long memberId, PostCreateRequest request) {
+        Member member = memberService.findMember(memberId);
+
         Post post = member.writeNewPost(request.getTitle(), request.getContent());
         postRepository.save(post);
 
-        List<FileCreateRequest> fileCreateRequests = request.getFiles();
+        return post;
+    }
 
-        if (fileCreateRequests != null && !fileCreateRequests.isEmpty()) {
-            addFilesWith(fileCreateRequests, post);
-        }
+    private Post createHiddenPost(Long memberId, PostCreateRequest request) {
+        Member member = memberService.findMember(memberId);
 
-        return post.getId();
+        Post post = member.writeNewPost(request.getTitle(), request.getContent());
+        post.hide();
+        postRepository.save(post);
+
+        return post;
     }
 
-    private void addFilesWith(List<FileCreateRequest> fileCreateRequests, Post post) {
-        List<FileCreateRequest> files = fileCreateRequests;
+    private void publishWritten(Post post) {
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.WRITTEN, post.getTitle(), post.getContent()));
+    }
 
+    /*
+    - DB나 S3를 건드리기 전에 요청 자체의 형식과 요청 내 중복을 메모리에서 검증
+    - 최종 s3Key는 post/{postId}/{storedFileName}이므로, storedFileName 중복이 곧 최종 s3Key 중복
+     */
+    private void validateFileCreateRequests(List<FileCreateRequest> fileCreateRequests) {
         Set<String> tmpSeen = new HashSet<>();
-        Set<String> finalSeen = new HashSet<>();
+        Set<String> storedSeen = new HashSet<>();
 
-        for (FileCreateRequest fileCreateRequest : files) {
+        for (FileCreateRequest fileCreateRequest : fileCreateRequests) {
             String originalFileName = fileCreateRequest.getOriginalFileName();
             String tmpS3Key = fileCreateRequest.getS3Key();
 
@@ -106,51 +198,77 @@ public class PostService {
                 throw new InvalidFileFieldException("addFilesWith: fileCreateRequest 정보가 누락됨");
             }
 
+            File.validateOriginalFileName(originalFileName);
             File.validateTmpS3KeyFormat(tmpS3Key);
 
-            if (!tmpSeen.add(fileCreateRequest.getS3Key())) {
+            if (!tmpSeen.add(tmpS3Key)) {
                 throw new InvalidFileFieldException("addFilesWith: 요청 내 임시 s3Key가 중복됨");
             }
 
-            String finalS3Key = "post/" + post.getId() + "/" + File.extractStoredFileName(tmpS3Key);
-
-            if (!finalSeen.add(finalS3Key)) {
+            if (!storedSeen.add(File.extractStoredFileName(tmpS3Key))) {
                 throw new InvalidFileFieldException("addFilesWith: 요청 내 최종 s3Key가 중복됨");
             }
+        }
+    }
 
-            if (fileRepository.findByS3KeyAndIsRemovedFalse(finalS3Key).isPresent()) {
-                throw new InvalidFileFieldException("addFilesWith: 최종 s3Key가 이미 존재함");
-            }
-
-            //예외 발생 시 자체 처리
-            amazonS3Client.copyObject(bucket, tmpS3Key, bucket, finalS3Key);
+    private List<FilePromotion> toPromotions(List<FileCreateRequest> fileCreateRequests, Long postId) {
+        List<FilePromotion> promotions = new ArrayList<>();
 
-            File file = post.addNewFile(fileCreateRequest.getOriginalFileName(), finalS3Key);
+        for (FileCreateRequest fileCreateRequest : fileCreateRequests) {
+            String tmpS3Key = fileCreateRequest.getS3Key();
+            String finalS3Key = "post/" + postId + "/" + File.extractStoredFileName(tmpS3Key);
 
-            //동시에 들어오는 경우 예외 처리
-            try {
-                fileRepository.save(file);
-            }  catch (DataIntegrityViolationException e) {
-                try {
-                    //동시에 들어오는 예외 발생 시 오브젝트 삭제 시도
-                    amazonS3Client.deleteObject(bucket, finalS3Key);
-                } catch (RuntimeException ex) {
-                    //삭제 실패 시 로그만 남기기 - DB 정합성 영향 x이기 때문
-                    log.warn("final key object 삭제 실패, final Key = {}",finalS3Key, ex);
-                }
+            promotions.add(new FilePromotion(fileCreateRequest.getOriginalFileName(), tmpS3Key, finalS3Key));
+        }
 
-                throw new InvalidFileFieldException("addFilesWith: s3Key가 중복됨");
-            }
+        return promotions;
+    }
 
-            try {
-                amazonS3Client.deleteObject(bucket, tmpS3Key);
-            } catch (RuntimeException e) {
-                log.warn("tmp object 삭제 실패, final Key = {}",finalS3Key, e);
-            }
+    /*
+    - 최종 s3Key들을 IN 쿼리 한 번으로 조회한 뒤 메모리에서 검증 (첨부 파일 수와 무관하게 쿼리 1번)
+     */
+    private void checkFinalKeysNotExist(List<FilePromotion> promotions) {
+        if (!fileRepository.findExistingS3Keys(finalKeys(promotions)).isEmpty()) {
+            throw new InvalidFileFieldException("addFilesWith: 최종 s3Key가 이미 존재함");
+        }
+    }
 
+    /*
+    - S3 복사가 끝난 파일들의 File row만 저장 (트랜잭션 안에서 호출)
+    - 동시에 같은 최종 s3Key가 저장되는 경우는 flush 시 unique 제약으로 감지
+    - 중복 제거 모드에서도 blob 없이 저장하고, 같은 내용의 blob 연결은 커밋 이후 FileDedupJob이 수행
+     */
+    private void attachPromotedFiles(Post post, List<FilePromotion> promotions) {
+        checkFinalKeysNotExist(promotions);
 
+        List<File> files = new ArrayList<>();
+        for (FilePromotion promotion : promotions) {
+            files.add(post.addNewFile(promotion.getOriginalFileName(), promotion.getFinalS3Key()));
+        }
 
+        try {
+            fileRepository.saveAllAndFlush(files);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidFileFieldException("addFilesWith: s3Key가 중복됨");
         }
+
+        postRepository.addFileCount(post.getId(), promotions.size());
+    }
+
+    private static List<String> tmpKeys(List<FilePromotion> promotions) {
+        List<String> keys = new ArrayList<>();
+        for (FilePromotion promotion : promotions) keys.add(promotion.getTmpS3Key());
+        return keys;
+    }
+
+    private static List<String> finalKeys(List<FilePromotion> promotions) {
+        List<String> keys = new ArrayList<>();
+        for (FilePromotion promotion : promotions) keys.add(promotion.getFinalS3Key());
+        return keys;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
     }
 
     /**
@@ -168,36 +286,109 @@ public class PostService {
 
     /**
      * 게시글을 상세 조회합니다.
+     * 결과는 PostDetailCache에 캐시되며, 게시글 수정/삭제 시 무효화됩니다.
      *
      * @param postId 조회할 게시글의 ID
      * @return 조회된 게시글의 상세 확인 DTO
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostDetailResponse getPostDetailResponse(Long postId) {
-        return PostDetailResponse.from(getPost(postId));
+        return postDetailCache.get(postId, id -> inReadOnlyTransaction(() -> PostDetailResponse.from(getPost(id))));
+    }
+
+    /*
+    - 캐시 hit 시 커넥션을 잡지 않도록, 트랜잭션은 캐시 miss로 DB를 조회할 때만 시작
+    - 이미 트랜잭션이 있으면 참여
+     */
+    private <T> T inReadOnlyTransaction(Supplier<T> query) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return readOnly.execute(status -> query.get());
     }
 
 
     /**
      *전체 게시글 목록 페이지 단위로 조회합니다.
+     * 앞쪽 페이지는 PostListCache에 캐시되며, 게시글 작성/수정/삭제 시 무효화됩니다.
      *
      * @param pageable 페이징 및 정렬 정보를 담은 객체
      * @return 삭제되지 않은 게시글들의 페이징 결과 (요약 응답 DTO로 매핑됨)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<PostSummaryResponse> getPosts(Pageable pageable) {
-        return postRepository.findSummaries(pageable);
+        return postListCache.get(pageable, p -> inReadOnlyTransaction(() -> postRepository.findSummaries(p)));
     }
 
     /**
      * 게시글을 검색 조건에 따라 조회합니다.
+     * keyword가 있으면 전문 검색 인덱스로 관련도 순 조회하고, 없으면 title, writer로 DB에서 조회합니다.
      *
-     * @param cond 검색 조건을 담은 객체 (title, writer)
+     * @param cond 검색 조건을 담은 객체 (title, writer, keyword)
      * @param pageable 페이징 및 정렬 정보를 담은 객체
      * @return 조건에 부합하는 게시글들의 페이징 결과 (요약 응답 DTO로 매핑됨)
      */
     public Page<PostSummaryResponse> search(SearchCond cond, Pageable pageable) {
+        if (cond.getKeyword() != null && !cond.getKeyword().isBlank()) {
+            return searchByKeyword(cond.getKeyword(), pageable);
+        }
         return postRepository.searchPosts(cond, pageable);
     }
 
+    /*
+    - 인덱스에서 관련도 순 ID 페이지를 얻고, 요약 정보는 IN 쿼리 한 번으로 조회한 뒤 인덱스 순서대로 재정렬
+    - 인덱스 반영 전에 삭제된 게시글은 DB 조회에서 걸러짐
+     */
+    private Page<PostSummaryResponse> searchByKeyword(String keyword, Pageable pageable) {
+        Page<Long> idPage = postSearchIndex.search(keyword, pageable);
+        if (idPage.isEmpty()) return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+
+        Map<Long, PostSummaryResponse> summaries = new HashMap<>();
+        for (PostSummaryResponse summary : postRepository.findSummariesByIds(idPage.getContent())) {
+            summaries.put(summary.getId(), summary);
+        }
+
+        List<PostSummaryResponse> contents = new ArrayList<>();
+        for (Long id : idPage.getContent()) {
+            PostSummaryResponse summary = summaries.get(id);
+            if (summary != null) contents.add(summary);
+        }
+
+        return new PageImpl<>(contents, pageable, idPage.getTotalElements());
+    }
+
+    /**
+     * 전체 게시글 목록을 커서 기반(keyset)으로 조회합니다.
+     * count 쿼리 없이 (createdDate, id) 기준으로 다음 size개만 조회하기 때문에, 페이지 깊이와 무관하게 비용이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 최신순 게시글 목록과 다음 커서
+     *
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorResponse<PostSummaryResponse> getPostsByCursor(String cursor, int size) {
+        return searchByCursor(SearchCond.builder().build(), cursor, size);
+    }
+
+    /**
+     * 게시글을 검색 조건에 따라 커서 기반(keyset)으로 조회합니다.
+     *
+     * @param cond 검색 조건을 담은 객체 (title, writer)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 조건에 부합하는 최신순 게시글 목록과 다음 커서
+     *
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorResponse<PostSummaryResponse> searchByCursor(SearchCond cond, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<PostSummaryResponse> rows = postRepository.searchPostsByCursor(cond, Cursor.decode(cursor), pageSize + 1);
+
+        return CursorResponse.of(rows, pageSize, p -> new Cursor(p.getCreatedDate(), p.getId()));
+    }
+
     /**
      * 회원이 작성한 게시글들을 조회합니다.
      *
@@ -214,6 +405,8 @@ public class PostService {
 
     /**
      * 게시글을 수정합니다.
+     * 추가 파일의 S3 복사는 트랜잭션 전에 동시에 수행하고, 수정 트랜잭션이 실패하면 복사된 오브젝트의 삭제를 outbox에 기록합니다.
+     * 임시 오브젝트와 제거된 파일의 오브젝트 삭제는 수정과 같은 트랜잭션에 기록됩니다.
      *
      * @param postId 수정할 게시글 ID
      * @param updateParam title, content를 포함한 수정 DTO
@@ -221,19 +414,42 @@ public class PostService {
      *@throws PostNotFoundException 존재하지 않거나 이미 삭제된 게시글의 경우
      * @throws InvalidPostFieldException null 값이 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void update(Long postId, PostUpdateRequest updateParam) {
+        List<FileCreateRequest> addFiles = updateParam.getAddFiles();
+
+        if (addFiles == null || addFiles.isEmpty()) {
+            inTransaction(() -> {
+                applyUpdate(postId, updateParam, List.of());
+                return null;
+            });
+            return;
+        }
+
+        //추가 파일은 트랜잭션 전에 검증하고 S3 복사까지 끝내둠
+        validateFileCreateRequests(addFiles);
+        getPost(postId);
+
+        List<FilePromotion> promotions = toPromotions(addFiles, postId);
+        checkFinalKeysNotExist(promotions);
+
+        promoteAndAttach(promotions, () -> applyUpdate(postId, updateParam, promotions));
+    }
+
+    private void applyUpdate(Long postId, PostUpdateRequest updateParam, List<FilePromotion> promotions) {
         Post post = getPost(postId);
 
         String title = updateParam.getTitle();
         String content = updateParam.getContent();
-        List<FileCreateRequest> addFiles = updateParam.getAddFiles();
         List<Long> removeFileIds = updateParam.getRemoveFileIds();
 
         if (title != null) post.updateTitle(title);
         if (content != null) post.updateContent(content);
 
-        if (addFiles != null && !addFiles.isEmpty()) addFilesWith(addFiles, post);
+        if (!promotions.isEmpty()) {
+            attachPromotedFiles(post, promotions);
+            storageDeleteOutboxService.enqueue(tmpKeys(promotions));
+        }
         if (removeFileIds != null && !removeFileIds.isEmpty()) {
             List<File> targets = fileRepository.findAllById(removeFileIds);
 
@@ -241,6 +457,7 @@ public class PostService {
                 throw new InvalidFileFieldException("update: 존재하지 않는 파일 id 포함");
             }
 
+            List<String> removedKeys = new ArrayList<>();
             for (File target : targets) {
                 if (!target.getPost().getId().equals(postId)) {
                     throw new InvalidFileFieldException("update: 타 게시글의 파일 포함");
@@ -251,19 +468,22 @@ public class PostService {
                 }
 
                 post.removeFile(target);
-
-                try {
-                    amazonS3Client.deleteObject(bucket, target.getS3Key());
-                } catch (RuntimeException e) {
-                    log.warn("object 삭제 실패, final Key = {}",target.getS3Key(), e);
-                }
+                //blob을 가리키는 파일은 다른 파일과 공유할 수 있으므로 purge에서 참조 수를 보고 지움
+                //중복 제거 모드에서는 FileDedupJob이 그 사이 이 오브젝트를 blob으로 연결할 수 있으므로, 최신 상태를 읽는 purge에서 지움
+                if (target.getBlob() == null && !fileBlobStore.isEnabled()) removedKeys.add(target.getS3Key());
             }
+
+            storageDeleteOutboxService.enqueue(removedKeys);
+            postRepository.addFileCount(postId, -targets.size());
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED, post.getTitle(), post.getContent()));
     }
 
     /**
      * 게시글을 삭제합니다.
+     * 댓글과 파일은 엔티티로 읽지 않고 bulk update로 함께 soft delete하므로, 댓글/파일 수와 무관하게 SQL 수가 일정합니다.
+     * bulk update 후 영속성 컨텍스트는 비워지므로, 이전에 조회한 엔티티는 다시 조회해야 합니다.
      *
      * @param postId 삭제할 게시글의 ID
      *
@@ -273,8 +493,18 @@ public class PostService {
     public void delete(Long postId) {
 
         Post post = getPost(postId);
-
         post.remove();
+
+        //게시글 변경은 첫 bulk update 전에 flush됨
+        LocalDateTime now = LocalDateTime.now();
+        int removedComments = commentRepository.softDeleteAllByPostId(postId, now);
+        int removedFiles = fileRepository.softDeleteAllByPostId(postId, now);
+
+        postRepository.addCommentCount(postId, -removedComments);
+        postRepository.addFileCount(postId, -removedFiles);
+
+        if (removedComments > 0) eventPublisher.publishEvent(new CommentsRemovedEvent(postId, removedComments));
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
 
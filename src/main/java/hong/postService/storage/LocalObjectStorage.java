@@ -0,0 +1,571 @@
+package hong.postService.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 기반 ObjectStorage (단일 노드 설치, 부하 테스트용)
+ *
+ * - 키는 root 아래 상대 경로로 저장하고, root 밖을 가리키는 키는 거부
+ * - 업로드는 같은 디렉토리의 임시 파일에 FileChannel.transferFrom으로 쓴 뒤 rename으로 한 번에 반영
+ * - 다운로드는 LocalStorageController가 path로 얻은 파일을 Tomcat sendfile로 전송
+ *   (sendfile을 쓸 수 없으면 transferTo로 응답 스트림에 복사 - 서블릿 스트림을 감싼 채널이므로 사용자 공간 복사)
+ * - copy(tmp -> final 승격)는 하드 링크 + rename으로 처리하여 데이터를 복사하지 않음 (하드 링크를 지원하지 않으면 복사)
+ * - presign URL은 LocalStorageController(/v2/storage/objects)를 가리키며, method/key/만료 시각을 HMAC-SHA256으로 서명
+ * - 멀티파트 업로드는 root/.multipart/{uploadId}/ 아래에 파트별 파일로 받고, 완료 시 transferTo로 이어 붙인 뒤 rename
+ *   (완료/취소되지 않은 업로드 디렉토리는 TmpUploadReaper가 abortMultipartUploadsBefore로 정리)
+ */
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    public static final String ENDPOINT = "/v2/storage/objects";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TEMP_PREFIX = ".";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    private static final String MULTIPART_DIR = ".multipart";
+    private static final String MULTIPART_KEY_FILE = "key";
+    private static final String ETAG_SUFFIX = ".etag";
+
+    private final Path root;
+    private final String baseUrl;
+    private final byte[] secret;
+
+    public LocalObjectStorage(Path root, String baseUrl, byte[] secret) {
+        if (secret == null || secret.length == 0) {
+            throw new IllegalArgumentException("LocalObjectStorage: 서명 secret이 비어있음");
+        }
+
+        try {
+            this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.secret = secret.clone();
+    }
+
+//presign---------------------------------------------------------------------------------------------------
+
+    @Override
+    public URL presignUpload(String key, Instant expiresAt) {
+        return presign("PUT", key, expiresAt, null);
+    }
+
+    @Override
+    public URL presignDownload(String key, Instant expiresAt, String contentDisposition) {
+        return presign("GET", key, expiresAt, contentDisposition);
+    }
+
+    @Override
+    public URL presignUploadPart(String key, String uploadId, int partNumber, Instant expiresAt) {
+        return presign("PUT", key, expiresAt, null, uploadId, partNumber);
+    }
+
+    private URL presign(String method, String key, Instant expiresAt, String contentDisposition) {
+        return presign(method, key, expiresAt, contentDisposition, null, 0);
+    }
+
+    private URL presign(String method, String key, Instant expiresAt, String contentDisposition, String uploadId, int partNumber) {
+        resolve(key);
+
+        long expires = expiresAt.getEpochSecond();
+        StringBuilder url = new StringBuilder(baseUrl).append(ENDPOINT)
+                .append("?key=").append(encode(key))
+                .append("&expires=").append(expires);
+
+        if (contentDisposition != null) url.append("&disposition=").append(encode(contentDisposition));
+        if (uploadId != null) url.append("&uploadId=").append(encode(uploadId)).append("&partNumber=").append(partNumber);
+
+        String extra = uploadId != null ? partExtra(uploadId, partNumber) : contentDisposition;
+        url.append("&signature=").append(sign(method, key, expires, extra));
+
+        try {
+            return URI.create(url.toString()).toURL();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * presign URL의 서명과 만료 시각을 검증합니다.
+     *
+     * @return 서명이 일치하고 만료되지 않았으면 true
+     */
+    public boolean verify(String method, String key, long expires, String contentDisposition, String signature) {
+        if (key == null || signature == null) return false;
+        if (Instant.now().getEpochSecond() > expires) return false;
+
+        byte[] expected = sign(method, key, expires, contentDisposition).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 파트 업로드 presign URL의 서명과 만료 시각을 검증합니다.
+     */
+    public boolean verifyPart(String key, String uploadId, int partNumber, long expires, String signature) {
+        if (uploadId == null) return false;
+        return verify("PUT", key, expires, partExtra(uploadId, partNumber), signature);
+    }
+
+    private static String partExtra(String uploadId, int partNumber) {
+        return "part:" + uploadId + ":" + partNumber;
+    }
+
+    private String sign(String method, String key, long expires, String extra) {
+        String payload = method + "\n" + key + "\n" + expires + "\n" + (extra == null ? "" : extra);
+
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+//읽기/쓰기---------------------------------------------------------------------------------------------------
+
+    /**
+     * 오브젝트를 씁니다. 다 쓴 뒤 rename으로 반영하므로, 쓰는 도중의 파일은 다른 요청에 보이지 않습니다.
+     *
+     * @return 쓴 바이트 수
+     */
+    public long write(String key, InputStream in) {
+        try {
+            return writeFile(resolve(key), in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long writeFile(Path target, InputStream in) throws IOException {
+        Path temp = null;
+
+        try {
+            Files.createDirectories(target.getParent());
+            temp = tempSibling(target);
+
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(in)) {
+                long n;
+                while ((n = channel.transferFrom(source, written, TRANSFER_CHUNK)) > 0) {
+                    written += n;
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return written;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 오브젝트 내용을 target 채널로 전송합니다.
+     *
+     * @return 전송한 바이트 수
+     * @throws UncheckedIOException 오브젝트가 없으면 NoSuchFileException을 원인으로 가짐
+     */
+    public long transferTo(String key, WritableByteChannel target) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 오브젝트가 저장된 파일의 절대 경로를 반환합니다. (Tomcat sendfile처럼 파일 경로로 직접 전송할 때 사용)
+     */
+    public Path path(String key) {
+        return resolve(key);
+    }
+
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    public long size(String key) {
+        try {
+            return Files.size(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+//멀티파트---------------------------------------------------------------------------------------------------
+
+    @Override
+    public String initiateMultipartUpload(String key) {
+        resolve(key);
+        String uploadId = UUID.randomUUID().toString();
+
+        try {
+            Path dir = Files.createDirectories(multipartDir(uploadId));
+            Files.writeString(dir.resolve(MULTIPART_KEY_FILE), key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploadId;
+    }
+
+    /**
+     * 파트 하나를 씁니다. 같은 파트를 다시 쓰면 덮어씁니다.
+     *
+     * @return 파트 내용의 MD5 (S3와 같은 형식의 ETag)
+     * @throws IllegalArgumentException 진행 중인 업로드가 아니거나 key가 다른 경우
+     */
+    public String writePart(String key, String uploadId, int partNumber, InputStream in) {
+        if (partNumber < 1) throw new IllegalArgumentException("잘못된 partNumber: " + partNumber);
+        Path dir = openMultipart(key, uploadId);
+
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            writeFile(dir.resolve(String.valueOf(partNumber)), new DigestInputStream(in, md5));
+
+            String eTag = "\"" + HexFormat.of().formatHex(md5.digest()) + "\"";
+            Files.writeString(dir.resolve(partNumber + ETAG_SUFFIX), eTag);
+            return eTag;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts) {
+        Path dir = openMultipart(key, uploadId);
+        if (parts == null || parts.isEmpty()) throw new IllegalArgumentException("업로드된 파트가 없음");
+
+        List<Path> partFiles = new ArrayList<>();
+        int previous = 0;
+        for (UploadedPart part : parts) {
+            if (part.getPartNumber() <= previous) throw new IllegalArgumentException("partNumber는 오름차순이어야 함");
+            previous = part.getPartNumber();
+
+            Path partFile = dir.resolve(String.valueOf(part.getPartNumber()));
+            if (!Files.isRegularFile(partFile) || !part.getEtag().equals(readETag(dir, part.getPartNumber()))) {
+                throw new IllegalArgumentException("업로드되지 않았거나 ETag가 다른 파트: " + part.getPartNumber());
+            }
+            partFiles.add(partFile);
+        }
+
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = tempSibling(target);
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (Path partFile : partFiles) {
+                    try (FileChannel in = FileChannel.open(partFile, StandardOpenOption.READ)) {
+                        long size = in.size();
+                        long position = 0;
+                        while (position < size) {
+                            position += in.transferTo(position, size - position, out);
+                        }
+                    }
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+
+        deleteRecursively(dir);
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        Path dir = multipartDir(uploadId);
+        if (!Files.isDirectory(dir)) return;
+
+        openMultipart(key, uploadId);
+        deleteRecursively(dir);
+    }
+
+    /*
+    - 디렉토리 수정 시각 = 마지막으로 파트가 올라온 시각 (파트 파일을 rename으로 만들기 때문)
+    - 마지막 파트 이후 before까지 활동이 없는 업로드만 취소
+     */
+    @Override
+    public int abortMultipartUploadsBefore(String prefix, Instant before) {
+        Path multipartRoot = root.resolve(MULTIPART_DIR);
+        if (!Files.isDirectory(multipartRoot)) return 0;
+
+        List<Path> stale = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(multipartRoot)) {
+            dirs.filter(Files::isDirectory).forEach(dir -> {
+                if (isStaleMultipart(dir, prefix, before)) stale.add(dir);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (Path dir : stale) deleteRecursively(dir);
+        return stale.size();
+    }
+
+    //시작 직후(key 파일 작성 전)이거나 도중에 완료/취소된 디렉토리는 건너뜀
+    private static boolean isStaleMultipart(Path dir, String prefix, Instant before) {
+        try {
+            if (!Files.getLastModifiedTime(dir).toInstant().isBefore(before)) return false;
+            return Files.readString(dir.resolve(MULTIPART_KEY_FILE)).startsWith(prefix);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path multipartDir(String uploadId) {
+        //uploadId는 UUID만 허용 (경로 조작 방지)
+        UUID.fromString(uploadId);
+        return root.resolve(MULTIPART_DIR).resolve(uploadId);
+    }
+
+    private Path openMultipart(String key, String uploadId) {
+        Path dir = multipartDir(uploadId);
+
+        try {
+            if (!Files.isDirectory(dir) || !key.equals(Files.readString(dir.resolve(MULTIPART_KEY_FILE)))) {
+                throw new IllegalArgumentException("진행 중인 멀티파트 업로드가 아님: " + uploadId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dir;
+    }
+
+    private static String readETag(Path dir, int partNumber) {
+        try {
+            return Files.readString(dir.resolve(partNumber + ETAG_SUFFIX));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(LocalObjectStorage::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("멀티파트 임시 디렉토리 삭제 실패, dir = {}", dir, e);
+        }
+    }
+
+//복사/삭제/조회---------------------------------------------------------------------------------------------------
+
+    /*
+    - 임시 이름으로 하드 링크를 만든 뒤 rename -> 대상 키에는 완성된 파일만 보이고, 데이터는 복사되지 않음
+    - 다른 파일시스템이거나 하드 링크를 지원하지 않으면 임시 파일로 복사 후 rename
+     */
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        Path source = resolve(sourceKey);
+        Path target = resolve(targetKey);
+        Path temp = null;
+
+        try {
+            Files.createDirectories(target.getParent());
+            temp = tempSibling(target);
+
+            try {
+                Files.createLink(temp, source);
+            } catch (NoSuchFileException e) {
+                throw e;
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                Files.copy(source, temp);
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+
+        for (String key : new LinkedHashSet<>(keys)) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                failed.put(key, e.getMessage());
+            }
+        }
+
+        if (!failed.isEmpty()) log.warn("로컬 오브젝트 삭제 일부 실패, {} / {} keys", failed.size(), keys.size());
+        return failed;
+    }
+
+    /*
+    - prefix의 마지막 '/'까지를 디렉토리로 보고 그 아래만 탐색
+    - 디렉토리마다 자식을 키 순서로 정렬해 깊이 우선으로 내려가고, maxKeys + 1개를 모으면 멈춤
+      -> 전체를 모아 정렬하지 않고, startAfter 이전이거나 prefix 밖인 하위 디렉토리는 열지 않음
+    - 한 디렉토리의 자식은 매 페이지마다 전부 읽어 정렬하므로, 한 디렉토리에 파일이 아주 많으면 여전히 느림 (개발/단일 노드용)
+    - 쓰는 중인 임시 파일과 .multipart 디렉토리('.'으로 시작하는 이름)는 제외
+     */
+    @Override
+    public ObjectPage listPage(String prefix, String startAfter, int maxKeys) {
+        int lastSlash = prefix.lastIndexOf('/');
+        Path dir = lastSlash < 0 ? root : resolve(prefix.substring(0, lastSlash));
+        if (!Files.isDirectory(dir)) return new ObjectPage(List.of(), null);
+
+        String dirKey = prefix.substring(0, lastSlash + 1);
+        List<String> keys = new ArrayList<>();
+        try {
+            collectKeys(dir, dirKey, prefix, startAfter, maxKeys + 1, keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<StoredObject> objects = new ArrayList<>();
+        for (String key : keys.subList(0, Math.min(keys.size(), maxKeys))) {
+            Instant lastModified = lastModified(key);
+            if (lastModified != null) objects.add(new StoredObject(key, lastModified));
+        }
+
+        String next = keys.size() > maxKeys ? keys.get(maxKeys - 1) : null;
+        return new ObjectPage(objects, next);
+    }
+
+    /**
+     * dir 아래의 키를 오름차순으로 limit개까지 keys에 추가합니다.
+     *
+     * @return limit개를 다 모았으면 true
+     */
+    private static boolean collectKeys(Path dir, String dirKey, String prefix, String startAfter, int limit, List<String> keys) throws IOException {
+        //하위 디렉토리는 "name/"로 비교해야 "a.txt" < "a/b.txt" 같은 키 순서와 맞음
+        List<ListEntry> children = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(dir)) {
+            paths.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(TEMP_PREFIX)) return;
+
+                boolean directory = Files.isDirectory(path);
+                children.add(new ListEntry(dirKey + name + (directory ? "/" : ""), path, directory));
+            });
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        children.sort(Comparator.comparing(ListEntry::key));
+
+        for (ListEntry child : children) {
+            String key = child.key();
+
+            if (child.directory()) {
+                if (!key.startsWith(prefix) && !prefix.startsWith(key)) continue;
+                if (startAfter != null && key.compareTo(startAfter) < 0 && !startAfter.startsWith(key)) continue;
+                if (collectKeys(child.path(), key, prefix, startAfter, limit, keys)) return true;
+                continue;
+            }
+
+            if (!key.startsWith(prefix)) continue;
+            if (startAfter != null && key.compareTo(startAfter) <= 0) continue;
+
+            keys.add(key);
+            if (keys.size() >= limit) return true;
+        }
+        return false;
+    }
+
+    private record ListEntry(String key, Path path, boolean directory) {
+    }
+
+    //조회 도중 삭제된 파일은 건너뜀
+    private Instant lastModified(String key) {
+        try {
+            return Files.getLastModifiedTime(resolve(key)).toInstant();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+//경로---------------------------------------------------------------------------------------------------
+
+    private Path resolve(String key) {
+        if (key == null || key.isBlank() || key.startsWith("/") || key.contains("\\")) {
+            throw new IllegalArgumentException("잘못된 오브젝트 키: " + key);
+        }
+
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 오브젝트 키: " + key);
+        }
+        return path;
+    }
+
+    private static Path tempSibling(Path target) {
+        return target.resolveSibling(TEMP_PREFIX + target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패, path = {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package hong.postService.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ObjectStorage.listPage 결과 (키 오름차순)
+ *
+ * - nextStartAfter가 null이면 마지막 페이지
+ */
+@Getter
+@AllArgsConstructor
+public class ObjectPage {
+
+    private List<StoredObject> objects;
+    private String nextStartAfter;
+
+    public boolean hasNext() {
+        return nextStartAfter != null;
+    }
+}
@@ -0,0 +1,108 @@
+package hong.postService.storage;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부 파일 오브젝트 저장소 SPI
+ *
+ * - 키는 "post/tmp/{storedFileName}", "post/{postId}/{storedFileName}" 형태의 '/' 구분 경로
+ * - storage.type=s3(기본)이면 S3ObjectStorage, storage.type=local이면 LocalObjectStorage를 사용
+ */
+public interface ObjectStorage {
+
+    /**
+     * 클라이언트가 직접 업로드(PUT)할 수 있는 서명된 URL을 발급합니다.
+     */
+    URL presignUpload(String key, Instant expiresAt);
+
+    /**
+     * 클라이언트가 직접 다운로드(GET)할 수 있는 서명된 URL을 발급합니다.
+     *
+     * @param contentDisposition 다운로드 응답의 Content-Disposition 헤더 값
+     */
+    URL presignDownload(String key, Instant expiresAt, String contentDisposition);
+
+    /**
+     * 멀티파트 업로드를 시작합니다.
+     *
+     * @return 이후 파트 업로드/완료/취소에 사용할 uploadId
+     */
+    String initiateMultipartUpload(String key);
+
+    /**
+     * 파트 하나를 클라이언트가 직접 업로드(PUT)할 수 있는 서명된 URL을 발급합니다.
+     * 같은 파트를 다시 올리면 이전 내용을 덮어쓰므로, 실패한 파트만 재시도할 수 있습니다.
+     */
+    URL presignUploadPart(String key, String uploadId, int partNumber, Instant expiresAt);
+
+    /**
+     * 업로드된 파트들을 partNumber 순서로 이어 하나의 오브젝트로 만듭니다.
+     */
+    void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts);
+
+    /**
+     * 멀티파트 업로드를 취소하고 업로드된 파트를 버립니다.
+     */
+    void abortMultipartUpload(String key, String uploadId);
+
+    /**
+     * prefix로 시작하는 키의 멀티파트 업로드 중 before 이전에 시작(로컬은 마지막 파트 업로드)되고
+     * 완료/취소되지 않은 업로드를 모두 취소합니다.
+     *
+     * @return 취소한 업로드 수
+     */
+    int abortMultipartUploadsBefore(String prefix, Instant before);
+
+    /**
+     * 오브젝트 내용을 읽는 스트림을 엽니다. 호출한 쪽에서 닫아야 합니다.
+     * 내용 전체를 메모리에 올리지 않으므로 큰 오브젝트도 일정한 메모리로 읽을 수 있습니다.
+     */
+    InputStream open(String key);
+
+    /**
+     * 오브젝트를 복사합니다. 대상 키에 오브젝트가 있으면 덮어씁니다.
+     */
+    void copy(String sourceKey, String targetKey);
+
+    /**
+     * 오브젝트를 삭제합니다. 없는 키는 성공으로 봅니다.
+     */
+    void delete(String key);
+
+    /**
+     * 여러 오브젝트를 삭제합니다. 일부가 실패해도 나머지는 삭제합니다.
+     *
+     * @return 삭제에 실패한 키 -> 실패 사유 (모두 성공하면 빈 Map)
+     */
+    Map<String, String> deleteAll(Collection<String> keys);
+
+    /**
+     * prefix로 시작하는 오브젝트를 키 오름차순으로 한 페이지 조회합니다.
+     *
+     * @param startAfter 이 키 다음부터 조회 (처음은 null)
+     * @param maxKeys 최대 조회 개수
+     */
+    ObjectPage listPage(String prefix, String startAfter, int maxKeys);
+
+    /**
+     * prefix로 시작하는 모든 오브젝트 키를 조회합니다.
+     */
+    default List<String> list(String prefix) {
+        List<String> keys = new ArrayList<>();
+        String startAfter = null;
+
+        do {
+            ObjectPage page = listPage(prefix, startAfter, 1000);
+            for (StoredObject object : page.getObjects()) keys.add(object.getKey());
+            startAfter = page.getNextStartAfter();
+        } while (startAfter != null);
+
+        return keys;
+    }
+}
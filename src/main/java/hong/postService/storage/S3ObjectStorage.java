@@ -0,0 +1,174 @@
+package hong.postService.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * AWS S3 기반 ObjectStorage
+ *
+ * - deleteAll은 multi-object delete(요청당 최대 1000 키)를 quiet 모드로 호출하여 실패한 키만 돌려받음
+ */
+@Slf4j
+public class S3ObjectStorage implements ObjectStorage {
+
+    //S3 multi-object delete 한 번에 보낼 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3Client amazonS3Client;
+    private final String bucket;
+
+    public S3ObjectStorage(AmazonS3Client amazonS3Client, String bucket) {
+        this.amazonS3Client = amazonS3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public URL presignUpload(String key, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt));
+
+        return amazonS3Client.generatePresignedUrl(request);
+    }
+
+    @Override
+    public URL presignDownload(String key, Instant expiresAt, String contentDisposition) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+                .withExpiration(Date.from(expiresAt));
+
+        request.addRequestParameter("response-content-disposition", contentDisposition);
+
+        return amazonS3Client.generatePresignedUrl(request);
+    }
+
+    @Override
+    public String initiateMultipartUpload(String key) {
+        return amazonS3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key)).getUploadId();
+    }
+
+    @Override
+    public URL presignUploadPart(String key, String uploadId, int partNumber, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt));
+
+        request.addRequestParameter("uploadId", uploadId);
+        request.addRequestParameter("partNumber", String.valueOf(partNumber));
+
+        return amazonS3Client.generatePresignedUrl(request);
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts) {
+        List<PartETag> partETags = new ArrayList<>();
+        for (UploadedPart part : parts) partETags.add(new PartETag(part.getPartNumber(), part.getEtag()));
+
+        amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+    }
+
+    /*
+    - 완료/취소되지 않은 업로드의 파트는 오브젝트 목록에 보이지 않고 저장 비용만 발생하므로 initiated 시각 기준으로 취소
+    - 한 업로드의 취소 실패는 로그만 남기고 다음 실행에서 다시 시도
+     */
+    @Override
+    public int abortMultipartUploadsBefore(String prefix, Instant before) {
+        ListMultipartUploadsRequest request = new ListMultipartUploadsRequest(bucket).withPrefix(prefix);
+        int aborted = 0;
+
+        MultipartUploadListing listing;
+        do {
+            listing = amazonS3Client.listMultipartUploads(request);
+
+            for (MultipartUpload upload : listing.getMultipartUploads()) {
+                if (!upload.getInitiated().toInstant().isBefore(before)) continue;
+                try {
+                    abortMultipartUpload(upload.getKey(), upload.getUploadId());
+                    aborted++;
+                } catch (RuntimeException e) {
+                    log.warn("방치된 멀티파트 업로드 취소 실패, key = {}, uploadId = {}", upload.getKey(), upload.getUploadId(), e);
+                }
+            }
+
+            request.setKeyMarker(listing.getNextKeyMarker());
+            request.setUploadIdMarker(listing.getNextUploadIdMarker());
+        } while (listing.isTruncated());
+
+        return aborted;
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return amazonS3Client.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        amazonS3Client.copyObject(bucket, sourceKey, bucket, targetKey);
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3Client.deleteObject(bucket, key);
+    }
+
+    /*
+    - quiet 모드에서는 실패한 키가 있을 때만 MultiObjectDeleteException이 발생하고, 나머지 키는 삭제된 것
+    - 요청 자체가 실패하면 그 요청의 모든 키를 실패로 봄
+     */
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+        List<String> all = new ArrayList<>(new LinkedHashSet<>(keys));
+
+        for (int from = 0; from < all.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = all.subList(from, Math.min(from + MAX_DELETE_KEYS, all.size()));
+
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(chunk.toArray(new String[0]))
+                    .withQuiet(true);
+
+            try {
+                amazonS3Client.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    failed.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+                }
+                log.warn("S3 삭제 일부 실패, {} / {} keys", e.getErrors().size(), chunk.size());
+            } catch (RuntimeException e) {
+                for (String key : chunk) failed.put(key, e.getMessage());
+                log.warn("S3 multi delete 요청 실패, {} keys", chunk.size(), e);
+            }
+        }
+
+        return failed;
+    }
+
+    @Override
+    public ObjectPage listPage(String prefix, String startAfter, int maxKeys) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withStartAfter(startAfter)
+                .withMaxKeys(maxKeys);
+
+        ListObjectsV2Result result = amazonS3Client.listObjectsV2(request);
+
+        List<StoredObject> objects = new ArrayList<>();
+        for (S3ObjectSummary summary : result.getObjectSummaries()) {
+            objects.add(new StoredObject(summary.getKey(), summary.getLastModified().toInstant()));
+        }
+
+        String next = result.isTruncated() && !objects.isEmpty() ? objects.get(objects.size() - 1).getKey() : null;
+        return new ObjectPage(objects, next);
+    }
+}
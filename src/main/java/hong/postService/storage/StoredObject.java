@@ -0,0 +1,14 @@
+package hong.postService.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class StoredObject {
+
+    private String key;
+    private Instant lastModified;
+}
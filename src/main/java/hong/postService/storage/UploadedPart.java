@@ -0,0 +1,17 @@
+package hong.postService.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멀티파트 업로드에서 업로드가 끝난 파트 (partNumber는 1부터, etag는 파트 업로드 응답의 ETag 헤더 값)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadedPart {
+
+    private int partNumber;
+    private String etag;
+}
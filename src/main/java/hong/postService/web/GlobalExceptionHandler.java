@@ -3,6 +3,7 @@ package hong.postService.web;
 import hong.postService.exception.ErrorResponse;
 import hong.postService.exception.comment.CommentNotFoundException;
 import hong.postService.exception.comment.InvalidCommentFieldException;
+import hong.postService.exception.cursor.InvalidCursorException;
 import hong.postService.exception.file.FileNotFoundException;
 import hong.postService.exception.file.InvalidFileFieldException;
 import hong.postService.exception.member.*;
@@ -14,6 +15,7 @@ import hong.postService.service.memberService.dto.PasswordUpdateRequest;
 import hong.postService.service.memberService.dto.UserCreateRequest;
 import hong.postService.service.postService.dto.PostCreateRequest;
 import hong.postService.service.postService.dto.PostUpdateRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -99,6 +101,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(403, "PASSWORD_MISMATCH_EXCEPTION", e.getMessage()));
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity
+                .status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(429, "PASSWORD_HASHING_BUSY", e.getMessage()));
+    }
+
 //Post-----------------------------------------------------------------------------
     @ExceptionHandler(InvalidPostFieldException.class)
     public ResponseEntity<ErrorResponse> handleInvalidPostField(InvalidPostFieldException e) {
@@ -144,4 +154,13 @@ public class GlobalExceptionHandler {
                 .status(BAD_REQUEST)
                 .body(new ErrorResponse(400, "INVALID_FILE_FIELD_EXCEPTION", e.getMessage()));
     }
+
+//Cursor-----------------------------------------------------------------------------
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity
+                .status(BAD_REQUEST)
+                .body(new ErrorResponse(400, "INVALID_CURSOR_EXCEPTION", e.getMessage()));
+    }
 }
@@ -3,8 +3,10 @@ package hong.postService.web.comment.v2;
 import hong.postService.exception.ErrorResponse;
 import hong.postService.service.commentService.dto.CommentCreateRequest;
 import hong.postService.service.commentService.dto.CommentResponse;
+import hong.postService.service.commentService.dto.CommentTreeResponse;
 import hong.postService.service.commentService.dto.CommentUpdateRequest;
 import hong.postService.service.commentService.v2.CommentService;
+import hong.postService.service.cursor.CursorResponse;
 import hong.postService.service.userDetailsService.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -60,6 +62,30 @@ public class CommentController {
         return ResponseEntity.created(location).build();
     }
 
+    @Operation(summary = "대댓글 목록 조회 (커서)",
+            description = "댓글에 달린 대댓글들을 작성순으로 커서 기반 조회한다. 응답의 nextCursor로 다음 페이지를 요청한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "대댓글 목록 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않거나 이미 삭제된 댓글 ID",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorResponse<CommentResponse>> getReplies(
+            @PathVariable("commentId") Long commentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        CursorResponse<CommentResponse> replies = commentService.getCommentsByParentCommentByCursor(commentId, cursor, size);
+
+        return ResponseEntity.ok(replies);
+    }
+
     @Operation(summary = "댓글 상세 조회",
             description = "댓글을 상세 조회한다.")
     @ApiResponses(
@@ -78,6 +104,22 @@ public class CommentController {
         return ResponseEntity.ok(commentResponse);
     }
 
+    @Operation(summary = "댓글 서브트리 조회",
+            description = "댓글과 그 아래 모든 대댓글을 중첩된 트리로 한 번에 조회한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "댓글 서브트리 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않거나 이미 삭제된 댓글 ID"
+                            ,content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("/{commentId}/tree")
+    public ResponseEntity<CommentTreeResponse> getCommentSubtree(@PathVariable("commentId") Long commentId) {
+        return ResponseEntity.ok(commentService.getCommentSubtree(commentId));
+    }
+
     @Operation(summary = "댓글 수정",
             description = "댓글 또는 대댓글을 수정한다.")
     @ApiResponses(
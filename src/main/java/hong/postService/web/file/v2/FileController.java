@@ -2,6 +2,14 @@ package hong.postService.web.file.v2;
 
 import hong.postService.exception.ErrorResponse;
 import hong.postService.service.fileService.dto.DownloadUrlResponse;
+import hong.postService.service.fileService.dto.DownloadUrlsResponse;
+import hong.postService.service.fileService.dto.FileZipEntry;
+import hong.postService.service.fileService.dto.MultipartPartUrlsRequest;
+import hong.postService.service.fileService.dto.MultipartPartUrlsResponse;
+import hong.postService.service.fileService.dto.MultipartUploadAbortRequest;
+import hong.postService.service.fileService.dto.MultipartUploadCompleteRequest;
+import hong.postService.service.fileService.dto.MultipartUploadInitRequest;
+import hong.postService.service.fileService.dto.MultipartUploadInitResponse;
 import hong.postService.service.fileService.v2.FileService;
 import hong.postService.service.fileService.dto.UploadUrlRequest;
 import hong.postService.service.fileService.dto.UploadUrlResponse;
@@ -12,20 +20,34 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.List;
 
 @Tag(name = "file", description = "파일 관련 API")
 @RestController
 @RequestMapping("/v2/files")
-@RequiredArgsConstructor
 public class FileController {
 
     private final FileService fileService;
 
+    //ZIP 스트리밍 최대 시간 (기본 비동기 요청 타임아웃(약 30초)을 쓰면 큰 ZIP이 중간에 끊김)
+    private final Duration zipTimeout;
+
+    public FileController(FileService fileService,
+                          @Value("${file.zip.timeout:30m}") Duration zipTimeout) {
+        this.fileService = fileService;
+        this.zipTimeout = zipTimeout;
+    }
+
     @Operation(summary = "upload url 발급",
     description = "업로드 요청이 온 파일들에 대해 upload-url들을 발급해준다.")
     @ApiResponses(
@@ -43,6 +65,73 @@ public class FileController {
     }
 
 
+    @Operation(summary = "멀티파트 업로드 시작",
+            description = "큰 파일의 멀티파트 업로드를 시작하고 파트별 upload-url들을 발급해준다. (최대 5GB)")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일 업로드 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/multipart-uploads")
+    public ResponseEntity<MultipartUploadInitResponse> initiateMultipartUpload(@Valid @RequestBody MultipartUploadInitRequest request) {
+        MultipartUploadInitResponse response = fileService.initiateMultipartUpload(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "멀티파트 파트 upload url 재발급",
+            description = "만료된 파트의 upload-url들을 다시 발급해준다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일 업로드 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/multipart-uploads/{uploadId}/part-urls")
+    public ResponseEntity<MultipartPartUrlsResponse> issueMultipartPartUrls(@PathVariable("uploadId") String uploadId,
+                                                                            @Valid @RequestBody MultipartPartUrlsRequest request) {
+        MultipartPartUrlsResponse response = fileService.getMultipartPartUrls(uploadId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "멀티파트 업로드 완료",
+            description = "업로드된 파트들을 합쳐 임시 파일을 완성한다. 이후 s3Key로 게시글에 첨부한다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "204", description = "완료 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파트 목록",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/multipart-uploads/{uploadId}/complete")
+    public ResponseEntity<Void> completeMultipartUpload(@PathVariable("uploadId") String uploadId,
+                                                        @Valid @RequestBody MultipartUploadCompleteRequest request) {
+        fileService.completeMultipartUpload(uploadId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "멀티파트 업로드 취소",
+            description = "멀티파트 업로드를 취소하고 업로드된 파트를 버린다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "204", description = "취소 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/multipart-uploads/{uploadId}/abort")
+    public ResponseEntity<Void> abortMultipartUpload(@PathVariable("uploadId") String uploadId,
+                                                     @Valid @RequestBody MultipartUploadAbortRequest request) {
+        fileService.abortMultipartUpload(uploadId, request);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "download url 발급",
             description = "다운로드 요청이 온 파일들에 대해 download-url들을 발급해준다.")
     @ApiResponses(
@@ -59,4 +148,53 @@ public class FileController {
         DownloadUrlResponse downloadUrl = fileService.getDownloadUrl(fileId, userDetails.getUserId());
         return ResponseEntity.ok(downloadUrl);
     }
+
+
+    @Operation(summary = "게시글 download url 일괄 발급",
+            description = "게시글의 모든 첨부 파일에 대해 download-url들을 한 번에 발급해준다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일 다운로드 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/download-urls")
+    public ResponseEntity<DownloadUrlsResponse> issueDownloadUrls(@RequestParam("postId") Long postId,
+                                                                  @AuthenticationPrincipal CustomUserDetails userDetails) {
+        DownloadUrlsResponse downloadUrls = fileService.getDownloadUrls(postId, userDetails.getUserId());
+        return ResponseEntity.ok(downloadUrls);
+    }
+
+    @Operation(summary = "게시글 첨부 파일 ZIP 다운로드",
+            description = "게시글의 모든 첨부 파일을 ZIP으로 묶어 스트리밍한다. 파일은 스토리지에서 읽는 대로 응답에 쓰므로 크기와 무관하게 메모리를 일정하게 사용한다. " +
+                    "전송은 file.zip.timeout(기본 30분) 안에 끝나야 하며, 넘으면 응답이 중간에 끊긴다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "다운로드 시작"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 파일 다운로드 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/download-zip")
+    public WebAsyncTask<Void> downloadZip(@RequestParam("postId") Long postId,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails,
+                                          HttpServletResponse response) {
+        //권한/목록 확인은 응답 전에 끝내고, 스트리밍은 요청 스레드 밖에서 이 요청만의 타임아웃으로 진행
+        List<FileZipEntry> entries = fileService.getZipEntries(postId, userDetails.getUserId());
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"post-" + postId + ".zip\"");
+
+        return new WebAsyncTask<>(zipTimeout.toMillis(), () -> {
+            fileService.writeZip(entries, response.getOutputStream());
+            return null;
+        });
+    }
 }
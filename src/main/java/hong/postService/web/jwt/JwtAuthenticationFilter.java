@@ -1,8 +1,7 @@
 package hong.postService.web.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import hong.postService.exception.ErrorResponse;
+import hong.postService.exception.member.PasswordHashingBusyException;
 import hong.postService.service.userDetailsService.dto.CustomUserDetails;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,6 +28,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final SecurityJsonMapper securityJsonMapper;
 
     @Override
     public Authentication attemptAuthentication
@@ -36,8 +37,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         try {
             // JSON 요청 바디 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            LoginRequest loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
+            LoginRequest loginRequest = securityJsonMapper.readLoginRequest(request.getInputStream());
 
             String username = loginRequest.getUsername();
             String password = loginRequest.getPassword();
@@ -46,11 +46,15 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(username, password);
 
-            //AuthenticationManager에서 로그인 인증 처리
+            //AuthenticationManager에서 로그인 인증 처리 (비밀번호 검증은 PooledPasswordEncoder 풀에서 수행)
             return authenticationManager.authenticate(authenticationToken);
 
+        } catch (PasswordHashingBusyException e) {
+            //해싱 대기열이 가득 찬 경우 unsuccessfulAuthentication에서 429로 응답
+            throw new AuthenticationServiceException(e.getMessage(), e);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            //잘못된 요청 바디는 500이 아닌 인증 실패(401)로 응답
+            throw new AuthenticationServiceException("로그인 요청 바디를 읽을 수 없음", e);
         }
     }
 
@@ -84,9 +88,12 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
 
-        //응답 생성
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
+        //해싱 대기열 초과는 인증 실패가 아닌 과부하(429)로 응답
+        if (failed.getCause() instanceof PasswordHashingBusyException) {
+            response.setHeader("Retry-After", "1");
+            securityJsonMapper.writeError(response, new ErrorResponse(429, "PASSWORD_HASHING_BUSY", failed.getMessage()));
+            return;
+        }
 
         String message;
 
@@ -104,9 +111,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         ErrorResponse errorResponse = new ErrorResponse(401, "AUTHENTICATION_FAILED", message);
 
         // ErrorResponse를 JSON으로 변환해서 응답에 작성
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        String json = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(json);
+        securityJsonMapper.writeError(response, errorResponse);
     }
 }
@@ -0,0 +1,21 @@
+package hong.postService.web.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT의 claim
+ *
+ * - JwtUtil.parse에서 한 번 파싱/검증한 결과를 담아, 필터에서 claim마다 다시 검증하지 않도록 함
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final Date expiration;
+}
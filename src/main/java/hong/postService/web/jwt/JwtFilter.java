@@ -1,11 +1,10 @@
 package hong.postService.web.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import hong.postService.domain.UserRole;
 import hong.postService.exception.ErrorResponse;
 import hong.postService.service.userDetailsService.dto.CustomUserDetails;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -24,7 +23,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SecurityJsonMapper securityJsonMapper;
 
     /**
      * JWT 검증 요청 필터링 로직에 대한 고민
@@ -45,19 +45,21 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        // jwt 만료 검증
+        // JWT 서명/만료 검증 및 사용자 정보 추출 (이미 검증한 토큰이면 캐시된 claim 사용)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(token);
+            claims = verifiedTokenCache.getOrParse(token);
         } catch (ExpiredJwtException e) {
             handleJwtError(response, 401, "JWT_EXPIRED", "토큰이 만료되었습니다.");
             return;
+        } catch (JwtException | IllegalArgumentException e) {
+            handleJwtError(response, 401, "JWT_INVALID", "유효하지 않은 토큰입니다.");
+            return;
         }
 
-        // JWT 토큰에서 사용자 정보 추출
-        Long userId = jwtUtil.getUserId(token);
-        String username = jwtUtil.getUsername(token);
-        String roleStr = jwtUtil.getRole(token);
-        UserRole role = roleStr.equals("ROLE_ADMIN") ? UserRole.ADMIN : UserRole.USER;
+        Long userId = claims.getUserId();
+        String username = claims.getUsername();
+        UserRole role = "ROLE_ADMIN".equals(claims.getRole()) ? UserRole.ADMIN : UserRole.USER;
 
         // 인증 객체 생성 및 설정
         CustomUserDetails userDetails = new CustomUserDetails(userId, username, null, role);
@@ -91,15 +93,6 @@ public class JwtFilter extends OncePerRequestFilter {
     private void handleJwtError(HttpServletResponse response,
                                 int status, String code, String message) throws IOException {
 
-        ErrorResponse errorResponse = new ErrorResponse(status, code, message);
-
-        response.setStatus(status);
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        securityJsonMapper.writeError(response, new ErrorResponse(status, code, message));
     }
 }
@@ -1,5 +1,9 @@
 package hong.postService.web.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,8 +18,12 @@ public class JwtUtil {
 
     private SecretKey secretKey;
 
+    //JwtParser는 불변이고 thread-safe하므로 요청마다 만들지 않고 재사용
+    private final JwtParser parser;
+
     public JwtUtil(@Value("${spring.jwt.secret}") String secret) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     //JWT 생성 메서드
@@ -33,34 +41,23 @@ public class JwtUtil {
 
     //JWT 검증용 메서드
 
-    public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("userId", Long.class);
-    }
-
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("username", String.class);
-    }
-
-    public String getRole(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
-    }
-
-    public Boolean isExpired(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+    /**
+     * 토큰의 서명과 만료 시간을 한 번에 검증하고 claim을 꺼냅니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 claim
+     *
+     * @throws ExpiredJwtException 만료된 토큰인 경우
+     * @throws JwtException 서명이 맞지 않거나 형식이 잘못된 토큰인 경우
+     */
+    public JwtClaims parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        return new JwtClaims(
+                claims.get("userId", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration()
+        );
     }
 }
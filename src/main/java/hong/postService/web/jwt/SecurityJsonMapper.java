@@ -0,0 +1,47 @@
+package hong.postService.web.jwt;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hong.postService.exception.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 시큐리티 필터(JwtFilter, JwtAuthenticationFilter, CustomAuthenticationEntryPoint)에서 공유하는 JSON 변환기
+ *
+ * - 요청마다 ObjectMapper를 만들고 모듈을 등록하지 않도록, 스프링이 구성한 ObjectMapper에서
+ *   LoginRequest reader, ErrorResponse writer를 미리 만들어 재사용 (ObjectReader/ObjectWriter는 불변, thread-safe)
+ * - 스프링 ObjectMapper를 사용하므로 timestamp 등 직렬화 형식이 GlobalExceptionHandler 응답과 같음
+ */
+@Component
+public class SecurityJsonMapper {
+
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter errorResponseWriter;
+
+    public SecurityJsonMapper(ObjectMapper objectMapper) {
+        this.loginRequestReader = objectMapper.readerFor(LoginRequest.class);
+        this.errorResponseWriter = objectMapper.writerFor(ErrorResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public LoginRequest readLoginRequest(InputStream body) throws IOException {
+        return loginRequestReader.readValue(body);
+    }
+
+    /**
+     * 에러 응답의 상태 코드, Content-Type을 설정하고 ErrorResponse를 JSON으로 작성합니다.
+     */
+    public void writeError(HttpServletResponse response, ErrorResponse errorResponse) throws IOException {
+        response.setStatus(errorResponse.getStatus());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        errorResponseWriter.writeValue(response.getWriter(), errorResponse);
+    }
+}
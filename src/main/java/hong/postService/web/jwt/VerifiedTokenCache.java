@@ -0,0 +1,90 @@
+package hong.postService.web.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 JWT claim 캐시
+ *
+ * - 같은 토큰으로 반복 요청하는 경우 HMAC 검증과 JSON 디코딩을 다시 하지 않도록 함
+ * - 키는 토큰 원문 대신 SHA-256 digest를 사용 (토큰 원문을 메모리에 쌓아두지 않고, 키 크기를 일정하게 유지)
+ * - 각 항목은 토큰의 만료 시각까지만 유지되고, 최대 크기를 넘으면 evict
+ * - 검증 실패(만료, 위조 등)는 캐시하지 않고 그대로 예외 전파
+ * - hit/miss/eviction 지표는 actuator의 cache.* 메트릭(cache=verifiedJwt)으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtClaims> claimsByDigest;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.claimsByDigest = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsByDigest, "verifiedJwt");
+    }
+
+    /**
+     * 캐시된 claim을 반환하고, 없으면 토큰을 검증해서 캐시에 저장합니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 claim
+     *
+     * @throws ExpiredJwtException 만료된 토큰인 경우
+     * @throws JwtException 서명이 맞지 않거나 형식이 잘못된 토큰인 경우
+     */
+    public JwtClaims getOrParse(String token) {
+        return claimsByDigest.get(digest(token), k -> jwtUtil.parse(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            //SHA-256은 모든 JVM 구현에서 필수 지원
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.getExpiration() == null) return 0L;
+
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package hong.postService.web.oauth2;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import hong.postService.exception.ErrorResponse;
+import hong.postService.web.jwt.SecurityJsonMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -15,10 +15,10 @@ import java.io.IOException;
  * JWT 검증 실패 시, OAuth 로그인 redirect 방지를 위한 커스텀 AuthenticationEntryPoint 정의
  */
 @Component
+@RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule());
+    private final SecurityJsonMapper securityJsonMapper;
 
     @Override
     public void commence(HttpServletRequest request,
@@ -32,12 +32,7 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
                 "JWT가 없거나 유효하지 않습니다."
         );
 
-        // 응답 세팅
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        // JSON 응답 출력
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // 응답 세팅 및 JSON 응답 출력
+        securityJsonMapper.writeError(response, errorResponse);
     }
 }
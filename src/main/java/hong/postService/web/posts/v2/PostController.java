@@ -5,7 +5,9 @@ import hong.postService.exception.ErrorResponse;
 import hong.postService.repository.postRepository.v2.SearchCond;
 import hong.postService.service.commentService.dto.CommentCreateRequest;
 import hong.postService.service.commentService.dto.CommentResponse;
+import hong.postService.service.commentService.dto.CommentTreeResponse;
 import hong.postService.service.commentService.v2.CommentService;
+import hong.postService.service.cursor.CursorResponse;
 import hong.postService.service.postService.dto.PostDetailResponse;
 import hong.postService.service.postService.dto.PostSummaryResponse;
 import hong.postService.service.postService.dto.PostUpdateRequest;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @Tag(name = "post", description = "게시글 관련 API")
 @RestController
@@ -58,6 +61,30 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * cursor 파라미터가 있으면 keyset 페이징으로 동작 (첫 페이지는 cursor= 로 요청)
+     */
+    @Operation(summary = "전체 게시글 조회 (커서)",
+            description = "전체 게시글을 최신순으로 커서 기반 조회한다. 응답의 nextCursor로 다음 페이지를 요청한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "전체 게시글 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> getPostsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        CursorResponse<PostSummaryResponse> posts = postService.getPostsByCursor(cursor, size);
+
+        return ResponseEntity.ok(posts);
+    }
+
     @Operation(summary = "게시글 상세 조회",
             description = "게시글 하나를 상세 조회한다.")
     @ApiResponses(
@@ -77,7 +104,7 @@ public class PostController {
     }
 
     @Operation(summary = "게시글 검색",
-            description = "회원 닉네임이나 게시글 제목을 입력받아 게시글을 조회한다.")
+            description = "회원 닉네임이나 게시글 제목을 입력받아 게시글을 조회한다. keyword가 있으면 제목과 본문을 전문 검색하여 관련도 순으로 조회한다.")
     @ApiResponses(
             value = {
                     @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
@@ -89,15 +116,41 @@ public class PostController {
     public ResponseEntity<Page<PostSummaryResponse>> search(
             @RequestParam(name = "writer", required = false) String writer,
             @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "keyword", required = false) String keyword,
             Pageable pageable) {
 
-        SearchCond cond = new SearchCond(writer, title);
+        SearchCond cond = new SearchCond(writer, title, keyword);
         Page<PostSummaryResponse> posts = postService.search(cond, pageable);
 
         return ResponseEntity.ok(posts);
     }
 
 
+    @Operation(summary = "게시글 검색 (커서)",
+            description = "회원 닉네임이나 게시글 제목을 입력받아 게시글을 최신순으로 커서 기반 조회한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> searchByCursor(
+            @RequestParam(name = "writer", required = false) String writer,
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        SearchCond cond = new SearchCond(writer, title);
+        CursorResponse<PostSummaryResponse> posts = postService.searchByCursor(cond, cursor, size);
+
+        return ResponseEntity.ok(posts);
+    }
+
+
     @Operation(summary = "게시글 수정",
             description = "게시글의 제목이나 본문을 수정하고, 새로운 파일을 추가하거나 기존 파일을 삭제한다.")
     @ApiResponses(
@@ -194,4 +247,44 @@ public class PostController {
         return ResponseEntity
                 .ok(comments);
     }
+
+    /**
+     * cursor 파라미터가 있으면 keyset 페이징으로 동작 (첫 페이지는 cursor= 로 요청)
+     */
+    @Operation(summary = "게시글 전체 댓글 목록 조회 (커서)",
+            description = "게시글에 달린 댓글 및 대댓글들을 작성순으로 커서 기반 조회한다. 응답의 nextCursor로 다음 페이지를 요청한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "게시글 전체 댓글 목록 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않거나 이미 삭제된 게시글 ID",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            }
+    )
+    @GetMapping(value = "{postId}/comments", params = "cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getPostCommentsByCursor(
+            @PathVariable("postId") Long postId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        CursorResponse<CommentResponse> comments = commentService.getCommentsByPostByCursor(postId, cursor, size);
+
+        return ResponseEntity.ok(comments);
+    }
+
+    @Operation(summary = "게시글 댓글 트리 조회",
+            description = "게시글에 달린 댓글 전체를 대댓글이 중첩된 트리로 한 번에 조회한다.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "게시글 댓글 트리 조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않거나 이미 삭제된 게시글 ID",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+
+            }
+    )
+    @GetMapping("{postId}/comments/tree")
+    public ResponseEntity<List<CommentTreeResponse>> getPostCommentTree(@PathVariable("postId") Long postId) {
+        return ResponseEntity.ok(commentService.getCommentTree(postId));
+    }
 }
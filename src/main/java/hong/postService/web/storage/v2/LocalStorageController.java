@@ -0,0 +1,116 @@
+package hong.postService.web.storage.v2;
+
+import hong.postService.storage.LocalObjectStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+/**
+ * storage.type=local일 때 presign URL로 업로드/다운로드를 처리하는 엔드포인트
+ * (S3의 presigned PUT/GET 역할, 인증은 URL 서명으로 대신함)
+ * - 다운로드는 커넥터가 sendfile을 지원하면 파일 경로만 넘겨 Tomcat이 커널에서 소켓으로 바로 보내게 하고,
+ *   지원하지 않으면 응답 스트림으로 복사
+ */
+@Tag(name = "storage", description = "로컬 스토리지 presign URL API")
+@RestController
+@RequestMapping(LocalObjectStorage.ENDPOINT)
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalStorageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Operation(summary = "오브젝트 업로드",
+            description = "upload-url로 발급된 서명 URL에 요청 본문을 저장한다. uploadId, partNumber가 있으면 멀티파트 업로드의 파트로 저장하고 ETag 헤더를 응답한다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "업로드 성공"),
+                    @ApiResponse(responseCode = "400", description = "진행 중인 멀티파트 업로드가 아님"),
+                    @ApiResponse(responseCode = "403", description = "서명이 틀렸거나 만료된 URL")
+            }
+    )
+    @PutMapping
+    public ResponseEntity<Void> upload(@RequestParam("key") String key,
+                                       @RequestParam("expires") long expires,
+                                       @RequestParam(value = "uploadId", required = false) String uploadId,
+                                       @RequestParam(value = "partNumber", required = false) Integer partNumber,
+                                       @RequestParam("signature") String signature,
+                                       HttpServletRequest request) throws IOException {
+        if (uploadId == null || partNumber == null) {
+            if (!localObjectStorage.verify("PUT", key, expires, null, signature)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            localObjectStorage.write(key, request.getInputStream());
+            return ResponseEntity.ok().build();
+        }
+
+        if (!localObjectStorage.verifyPart(key, uploadId, partNumber, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            String eTag = localObjectStorage.writePart(key, uploadId, partNumber, request.getInputStream());
+            return ResponseEntity.ok().header(HttpHeaders.ETAG, eTag).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "오브젝트 다운로드", description = "download-url로 발급된 서명 URL의 오브젝트를 전송한다.")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "다운로드 성공"),
+                    @ApiResponse(responseCode = "403", description = "서명이 틀렸거나 만료된 URL"),
+                    @ApiResponse(responseCode = "404", description = "오브젝트 없음")
+            }
+    )
+    @GetMapping
+    public void download(@RequestParam("key") String key,
+                         @RequestParam("expires") long expires,
+                         @RequestParam(value = "disposition", required = false) String disposition,
+                         @RequestParam("signature") String signature,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        if (!localObjectStorage.verify("GET", key, expires, disposition, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+
+        if (!localObjectStorage.exists(key)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long size = localObjectStorage.size(key);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(size);
+        if (disposition != null) response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            //본문은 서블릿이 반환된 뒤 Tomcat이 sendfile로 전송 (end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME, localObjectStorage.path(key).toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        localObjectStorage.transferTo(key, Channels.newChannel(response.getOutputStream()));
+    }
+}
@@ -75,7 +75,7 @@ class CommentTest {
     }
 
     @Test
-    void remove_대댓글이_여러단계일때_모두_함께_삭제된다() {
+    void remove_댓글_한_건만_삭제되고_대댓글은_CommentService의_bulk_update로_삭제된다() {
         // given
         Member member = Member.createNewMember("user", "pw", null, "nick");
         Post post = member.writeNewPost("title", "content");
@@ -91,11 +91,11 @@ class CommentTest {
         assertThat(c1.isRemoved()).isTrue();
         assertThat(c1.getContent()).isEqualTo("");
 
-        assertThat(c2.isRemoved()).isTrue();
-        assertThat(c2.getContent()).isEqualTo("");
+        assertThat(c2.isRemoved()).isFalse();
+        assertThat(c2.getContent()).isEqualTo("대댓글");
 
-        assertThat(c3.isRemoved()).isTrue();
-        assertThat(c3.getContent()).isEqualTo("");
+        assertThat(c3.isRemoved()).isFalse();
+        assertThat(c3.getContent()).isEqualTo("대대댓글");
     }
 
     @Test
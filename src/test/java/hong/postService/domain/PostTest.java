@@ -72,7 +72,7 @@ class PostTest {
     }
 
     @Test
-    void remove_댓글과_대댓글까지_모두_함께_삭제된다() {
+    void remove_게시글만_삭제되고_댓글은_PostService의_bulk_update로_삭제된다() {
         // given
         Member member = Member.createNewMember("user", "pw", null, "nick");
         Post post = member.writeNewPost("title", "content");
@@ -90,11 +90,38 @@ class PostTest {
         assertThat(post.getTitle()).isEqualTo("");
         assertThat(post.getContent()).isEqualTo("");
 
-        assertThat(c1.isRemoved()).isTrue();
-        assertThat(c2.isRemoved()).isTrue();
-        assertThat(r1.isRemoved()).isTrue();
-        assertThat(r2.isRemoved()).isTrue();
-        assertThat(r3.isRemoved()).isTrue();
+        assertThat(c1.isRemoved()).isFalse();
+        assertThat(c2.isRemoved()).isFalse();
+        assertThat(r1.isRemoved()).isFalse();
+        assertThat(r2.isRemoved()).isFalse();
+        assertThat(r3.isRemoved()).isFalse();
+    }
+
+    @Test
+    void 댓글_파일_카운터가_작성과_게시글_삭제에_따라_갱신된다() {
+        // given
+        Member member = Member.createNewMember("user", "pw", null, "nick");
+        Post post = member.writeNewPost("title", "content");
+
+        // when
+        Comment c1 = post.writeComment("댓글1", member);
+        Comment c2 = post.writeComment("댓글2", member);
+        c1.writeReply("대댓글1", member);
+        c1.writeReply("대댓글2", member);
+
+        post.addNewFile("a.txt", "post/1/a.txt");
+        post.addNewFile("b.txt", "post/1/b.txt");
+
+        // then
+        assertThat(post.getCommentCount()).isEqualTo(4);
+        assertThat(post.getFileCount()).isEqualTo(2);
+
+        // when
+        post.remove();
+
+        // then
+        assertThat(post.getCommentCount()).isEqualTo(0);
+        assertThat(post.getFileCount()).isEqualTo(0);
     }
 
     @Test
@@ -109,6 +136,30 @@ class PostTest {
                 .isInstanceOf(PostNotFoundException.class);
     }
 
+    @Test
+    void hide_publish_공개_전에는_댓글을_달_수_없고_공개하면_정상_상태가_된다() {
+        // given
+        Member member = Member.createNewMember("user", "pw", null, "nick");
+        Post post = member.writeNewPost("title", "content");
+
+        // when
+        post.hide();
+
+        // then
+        assertThat(post.isRemoved()).isTrue();
+        assertThatThrownBy(() -> post.writeComment("comment", member))
+                .isInstanceOf(PostNotFoundException.class);
+
+        // when
+        post.publish();
+
+        // then
+        assertThat(post.isRemoved()).isFalse();
+        assertThat(post.getTitle()).isEqualTo("title");
+        assertThatThrownBy(post::publish)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void writeComment_정상적으로_댓글을_생성하고_유효하지_않으면_예외가_발생한다() {
         // given
@@ -187,7 +238,7 @@ class PostTest {
     }
 
     @Test
-    void remove_파일까지_모두_함께_삭제된다() {
+    void remove_파일은_PostService의_bulk_update로_삭제된다() {
         // given
         Member member = Member.createNewMember("user", "pw", null, "nick");
         Post post = member.writeNewPost("title", "content");
@@ -202,10 +253,11 @@ class PostTest {
         post.remove();
 
         // then
-        assertThat(file1.isRemoved()).isTrue();
-        assertThat(file2.isRemoved()).isTrue();
-        assertThat(file3.isRemoved()).isTrue();
-        assertThat(file4.isRemoved()).isTrue();
-        assertThat(file5.isRemoved()).isTrue();
+        assertThat(post.getFileCount()).isEqualTo(0);
+        assertThat(file1.isRemoved()).isFalse();
+        assertThat(file2.isRemoved()).isFalse();
+        assertThat(file3.isRemoved()).isFalse();
+        assertThat(file4.isRemoved()).isFalse();
+        assertThat(file5.isRemoved()).isFalse();
     }
 }
@@ -0,0 +1,44 @@
+package hong.postService.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageDeleteOutboxTest {
+
+    @Test
+    void failed_실패할수록_재시도_간격이_늘어나고_최대_1시간() {
+        //given
+        StorageDeleteOutbox outbox = StorageDeleteOutbox.of("post/1/a.txt");
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        //when
+        outbox.failed("first", now);
+        LocalDateTime first = outbox.getNextAttemptAt();
+
+        outbox.failed("second", now);
+        LocalDateTime second = outbox.getNextAttemptAt();
+
+        //then
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+        assertThat(outbox.getLastError()).isEqualTo("second");
+        assertThat(first).isEqualTo(now.plusSeconds(10));
+        assertThat(second).isEqualTo(now.plusSeconds(20));
+        assertThat(StorageDeleteOutbox.backoff(100)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void failed_긴_에러_메시지는_잘라서_저장() {
+        //given
+        StorageDeleteOutbox outbox = StorageDeleteOutbox.of("post/1/a.txt");
+
+        //when
+        outbox.failed("e".repeat(1000), LocalDateTime.now());
+
+        //then
+        assertThat(outbox.getLastError()).hasSize(500);
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -177,6 +178,74 @@ class CommentRepositoryTest {
         assertThat(result3.getTotalElements()).isEqualTo(24);
     }
 
+    @Test
+    void recountReplyCounts_삭제되지_않은_직속_대댓글_수로_다시_계산() {
+        //given
+        Member member = Member.createNewMember("user", "p", "e@naver.com", "nickname");
+        memberRepository.save(member);
+
+        Post post = member.writeNewPost("title1", "content1");
+        postRepository.save(post);
+
+        Comment comment = post.writeComment("comment", member);
+        commentRepository.save(comment);
+
+        Comment reply1 = comment.writeReply("reply1", member);
+        Comment reply2 = comment.writeReply("reply2", member);
+        Comment reply3 = comment.writeReply("reply3", member);
+        commentRepository.save(reply1);
+        commentRepository.save(reply2);
+        commentRepository.save(reply3);
+        commentRepository.save(reply1.writeReply("nested", member));
+
+        reply3.remove();
+
+        //카운터 도입 이전 row처럼 DB에는 0이 저장된 상태
+        flushAndClear();
+
+        //when
+        commentRepository.recountReplyCounts(0L, commentRepository.findMaxId());
+        flushAndClear();
+
+        //then
+        assertThat(commentRepository.findById(comment.getId()).get().getReplyCount()).isEqualTo(2);
+        assertThat(commentRepository.findById(reply1.getId()).get().getReplyCount()).isEqualTo(1);
+        assertThat(commentRepository.findById(reply2.getId()).get().getReplyCount()).isEqualTo(0);
+    }
+
+    @Test
+    void findPathlessAfter_path가_없는_댓글을_ID_순서로_읽어_부모부터_채움() {
+        //given
+        Member member = Member.createNewMember("user", "p", "e@naver.com", "nickname");
+        memberRepository.save(member);
+
+        Post post = member.writeNewPost("title1", "content1");
+        postRepository.save(post);
+
+        //path 도입 이전 row처럼 assignPath 없이 저장
+        Comment comment = post.writeComment("comment", member);
+        commentRepository.save(comment);
+        Comment reply = comment.writeReply("reply", member);
+        commentRepository.save(reply);
+        flushAndClear();
+
+        //when
+        List<Comment> first = commentRepository.findPathlessAfter(0L, PageRequest.of(0, 1));
+        first.forEach(Comment::assignPath);
+        List<Comment> second = commentRepository.findPathlessAfter(first.get(0).getId(), PageRequest.of(0, 1));
+        second.forEach(Comment::assignPath);
+        flushAndClear();
+
+        //then
+        assertThat(first).extracting(Comment::getId).containsExactly(comment.getId());
+        assertThat(second).extracting(Comment::getId).containsExactly(reply.getId());
+
+        String parentPath = commentRepository.findById(comment.getId()).get().getPath();
+        assertThat(parentPath).isNotNull();
+        assertThat(commentRepository.findById(reply.getId()).get().getPath()).startsWith(parentPath).isNotEqualTo(parentPath);
+        assertThat(commentRepository.findPathlessAfter(0L, PageRequest.of(0, 10))).isEmpty();
+    }
+
     private void flushAndClear() {
         em.flush();
         em.clear();
@@ -6,12 +6,15 @@ import hong.postService.domain.Member;
 import hong.postService.domain.Post;
 import hong.postService.repository.memberRepository.v2.MemberRepository;
 import hong.postService.repository.postRepository.v2.PostRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,9 @@ class FileRepositoryTest {
     @Autowired
     PostRepository postRepository;
 
+    @Autowired
+    EntityManager em;
+
 
     @Test
     void findByIdAndIsRemovedFalse_File이_삭제되지_않았으면_정상반환() {
@@ -85,6 +91,32 @@ class FileRepositoryTest {
         assertThat(result2).isEmpty();
     }
 
+    @Test
+    void findExistingS3Keys_삭제되지_않은_File의_s3Key만_반환() {
+
+        //given
+        Member m = Member.createNewMember("user", "pw", "e@e.com", "nick");
+        memberRepository.save(m);
+
+        Post p = m.writeNewPost("title1", "content1");
+        postRepository.save(p);
+
+        File file1 = p.addNewFile("example1.txt", "post/1/example1-stored.txt");
+        File file2 = p.addNewFile("example2.txt", "post/1/example2-stored.txt");
+
+        fileRepository.save(file1);
+        fileRepository.save(file2);
+
+        file2.remove();
+
+        //when
+        List<String> result = fileRepository.findExistingS3Keys(
+                List.of(file1.getS3Key(), file2.getS3Key(), "post/1/none-stored.txt"));
+
+        //then
+        assertThat(result).containsExactly(file1.getS3Key());
+    }
+
     @Test
     void findByStoredFileNameAndIsRemovedFalse_File이_삭제되지_않았으면_정상반환() {
 
@@ -139,4 +171,42 @@ class FileRepositoryTest {
         assertThat(result1.size()).isEqualTo(2);
         assertThat(result2.size()).isEqualTo(2);
     }
- }
\ No newline at end of file
+ 
+    @Test
+    void findPurgeTargets_deleteRemovedByIdIn_삭제된_파일을_keyset으로_조회하고_hard_delete() {
+        //given
+        Member m = Member.createNewMember("user", "pw", "e@e.com", "nick");
+        memberRepository.save(m);
+
+        Post p = m.writeNewPost("title1", "content1");
+        postRepository.save(p);
+
+        for (int i = 1; i <= 5; i++) {
+            File file = p.addNewFile("file" + i + ".txt", "post/1/file" + i + "_stored.txt");
+            fileRepository.save(file);
+            if (i != 3) file.remove();
+        }
+
+        em.flush();
+        em.clear();
+
+        LocalDateTime threshold = LocalDateTime.now().plusMinutes(1);
+
+        //when
+        List<File> first = fileRepository.findPurgeTargets(threshold, 0L, PageRequest.of(0, 2));
+        List<File> second = fileRepository.findPurgeTargets(threshold, first.get(1).getId(), PageRequest.of(0, 2));
+
+        //then
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0).getId()).isGreaterThan(first.get(1).getId());
+        assertThat(fileRepository.findPurgeTargets(LocalDateTime.now().minusDays(1), 0L, PageRequest.of(0, 10))).isEmpty();
+
+        //when
+        int deleted = fileRepository.deleteRemovedByIdIn(List.of(first.get(0).getId(), first.get(1).getId()));
+
+        //then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(fileRepository.findPurgeTargets(threshold, 0L, PageRequest.of(0, 10))).hasSize(2);
+    }
+}
@@ -4,6 +4,7 @@ import hong.postService.TestSecurityConfig;
 import hong.postService.domain.Member;
 import hong.postService.domain.Post;
 import hong.postService.repository.memberRepository.v2.MemberRepository;
+import hong.postService.service.cursor.Cursor;
 import hong.postService.service.postService.dto.PostSummaryResponse;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
@@ -16,8 +17,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -336,6 +339,47 @@ class PostRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void searchPostsByCursor_최신순으로_중복_없이_끝까지_조회() {
+        //given
+        Member m1 = memberRepository.save(Member.createNewMember("userA", "pw", "a@a.com", "nickA"));
+
+        for (int i = 1; i <= 25; i++) {
+            Post post = m1.writeNewPost("title" + i, "content" + i);
+            postRepository.save(post);
+            if (i == 25) post.remove();
+        }
+
+        flushAndClear();
+
+        SearchCond cond = SearchCond.builder().build();
+
+        //when
+        Set<Long> seen = new HashSet<>();
+        Cursor cursor = null;
+        int pages = 0;
+
+        while (true) {
+            List<PostSummaryResponse> rows = postRepository.searchPostsByCursor(cond, cursor, 10);
+            if (rows.isEmpty()) break;
+
+            for (int i = 1; i < rows.size(); i++) {
+                PostSummaryResponse prev = rows.get(i - 1);
+                PostSummaryResponse cur = rows.get(i);
+                assertThat(prev.getCreatedDate()).isAfterOrEqualTo(cur.getCreatedDate());
+            }
+
+            rows.forEach(r -> seen.add(r.getId()));
+            PostSummaryResponse last = rows.get(rows.size() - 1);
+            cursor = new Cursor(last.getCreatedDate(), last.getId());
+            pages++;
+        }
+
+        //then
+        assertThat(seen.size()).isEqualTo(24);
+        assertThat(pages).isEqualTo(3);
+    }
+
     private void flushAndClear() {
         em.flush();
         em.clear();
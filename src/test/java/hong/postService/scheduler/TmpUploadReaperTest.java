@@ -0,0 +1,87 @@
+package hong.postService.scheduler;
+
+import hong.postService.storage.ObjectPage;
+import hong.postService.storage.ObjectStorage;
+import hong.postService.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TmpUploadReaperTest {
+
+    ObjectStorage objectStorage = Mockito.mock(ObjectStorage.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void run_유예_기간이_지난_임시_오브젝트만_삭제() {
+        //given
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        Instant recent = Instant.now();
+
+        when(objectStorage.listPage("post/tmp/", null, 1000)).thenReturn(new ObjectPage(List.of(
+                new StoredObject("post/tmp/a.txt", old),
+                new StoredObject("post/tmp/b.txt", recent),
+                new StoredObject("post/tmp/c.txt", old)), null));
+        when(objectStorage.deleteAll(anyCollection())).thenReturn(Map.of());
+
+        TmpUploadReaper reaper = new TmpUploadReaper(objectStorage, Duration.ofHours(24), 10, meterRegistry);
+
+        //when
+        reaper.run();
+
+        //then
+        verify(objectStorage).deleteAll(List.of("post/tmp/a.txt", "post/tmp/c.txt"));
+        assertThat(meterRegistry.get("storage.tmp.reaped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void run_유예_기간이_지난_멀티파트_업로드도_취소() {
+        //given
+        when(objectStorage.listPage("post/tmp/", null, 1000)).thenReturn(new ObjectPage(List.of(), null));
+        when(objectStorage.abortMultipartUploadsBefore(eq("post/tmp/"), any())).thenReturn(3);
+
+        TmpUploadReaper reaper = new TmpUploadReaper(objectStorage, Duration.ofHours(24), 10, meterRegistry);
+
+        //when
+        reaper.run();
+
+        //then
+        ArgumentCaptor<Instant> threshold = ArgumentCaptor.forClass(Instant.class);
+        verify(objectStorage).abortMultipartUploadsBefore(eq("post/tmp/"), threshold.capture());
+        assertThat(threshold.getValue()).isBefore(Instant.now().minus(Duration.ofHours(23)));
+        assertThat(meterRegistry.get("storage.tmp.multipart.aborted").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void run_실행당_페이지_수를_넘으면_다음_실행에서_이어서_진행() {
+        //given
+        Instant recent = Instant.now();
+
+        when(objectStorage.listPage("post/tmp/", null, 1000))
+                .thenReturn(new ObjectPage(List.of(new StoredObject("post/tmp/a.txt", recent)), "post/tmp/a.txt"));
+        when(objectStorage.listPage("post/tmp/", "post/tmp/a.txt", 1000))
+                .thenReturn(new ObjectPage(List.of(new StoredObject("post/tmp/b.txt", recent)), null));
+
+        TmpUploadReaper reaper = new TmpUploadReaper(objectStorage, Duration.ofHours(24), 1, meterRegistry);
+
+        //when
+        reaper.run();
+        reaper.run();
+        reaper.run();
+
+        //then
+        verify(objectStorage, times(2)).listPage("post/tmp/", null, 1000);
+        verify(objectStorage, times(1)).listPage("post/tmp/", "post/tmp/a.txt", 1000);
+        verify(objectStorage, never()).deleteAll(anyCollection());
+    }
+}
@@ -0,0 +1,185 @@
+package hong.postService.search;
+
+import hong.postService.domain.Post;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    ByteBuffersDirectory directory;
+    PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = new ByteBuffersDirectory();
+        index = new PostSearchIndex(directory,
+                KoreanNGramAnalyzer.forIndex(), KoreanNGramAnalyzer.forQuery());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_모든_검색어를_포함한_게시글만_관련도_순으로_반환() {
+        //given
+        index.index(1L, "spring boot", "jpa querydsl");
+        index.index(2L, "hello", "spring is coming");
+        index.index(3L, "spring jpa", "spring jpa spring jpa");
+
+        //when
+        Page<Long> result = index.search("spring jpa", PageRequest.of(0, 10));
+
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void index_update_delete_가_검색에_반영됨() {
+        //given
+        index.index(1L, "old title", "content");
+
+        //when
+        index.index(1L, "new title", "content");
+
+        //then
+        assertThat(index.search("old", PageRequest.of(0, 10))).isEmpty();
+        assertThat(index.search("new", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+
+        //when
+        index.delete(1L);
+
+        //then
+        assertThat(index.search("new", PageRequest.of(0, 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(0);
+    }
+
+    @Test
+    void index_commit_전에도_검색되고_commit_후_디스크에_반영됨() throws IOException {
+        //given
+        index.index(1L, "title", "content");
+
+        //when //then
+        assertThat(index.search("title", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertThat(reader.numDocs()).isEqualTo(0);
+        }
+
+        //when
+        index.commit();
+
+        //then
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertThat(reader.numDocs()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void commit_synced_until을_commit_data에_함께_기록() throws IOException {
+        //given
+        LocalDateTime until = LocalDateTime.of(2024, 1, 1, 12, 0);
+        index.index(1L, "title", "content");
+
+        //when
+        index.advanceSyncedUntil(until);
+        index.advanceSyncedUntil(until.minusHours(1));
+        index.commit();
+
+        //then
+        assertThat(index.getSyncedUntil()).isEqualTo(until);
+        assertThat(SegmentInfos.readLatestCommit(directory).getUserData())
+                .containsEntry("posts.synced-until", until.toString());
+    }
+
+    @Test
+    void indexAll_삭제된_게시글은_문서를_지움() {
+        //given
+        index.index(1L, "title", "content");
+        Post removed = Post.builder().id(1L).title("").content("").isRemoved(true).build();
+        Post live = Post.builder().id(2L).title("title").content("content").build();
+
+        //when
+        index.indexAll(List.of(removed, live));
+
+        //then
+        assertThat(index.search("title", PageRequest.of(0, 10)).getContent()).containsExactly(2L);
+    }
+
+    @Test
+    void search_페이징() {
+        //given
+        for (long i = 1; i <= 25; i++) {
+            index.index(i, "title" + i, "common");
+        }
+
+        //when
+        Page<Long> page3 = index.search("common", PageRequest.of(2, 10));
+
+        //then
+        assertThat(page3.getTotalElements()).isEqualTo(25);
+        assertThat(page3.getContent().size()).isEqualTo(5);
+    }
+
+    @Test
+    void search_한글_단어_중간부터_검색해도_매칭됨() {
+        //given
+        index.index(1L, "스프링부트 입문", "자바 웹 개발");
+        index.index(2L, "파이썬 입문", "데이터 분석");
+
+        //when
+        Page<Long> infix = index.search("링부트", PageRequest.of(0, 10));
+        Page<Long> twoChars = index.search("부트", PageRequest.of(0, 10));
+        Page<Long> oneChar = index.search("썬", PageRequest.of(0, 10));
+
+        //then
+        assertThat(infix.getContent()).containsExactly(1L);
+        assertThat(twoChars.getContent()).containsExactly(1L);
+        assertThat(oneChar.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    void search_영문_단어_일부로_검색해도_매칭됨() {
+        //given
+        index.index(1L, "Spring Boot 입문", "QueryDSL 동적 쿼리");
+        index.index(2L, "파이썬 입문", "Django 튜토리얼");
+
+        //when
+        Page<Long> prefix = index.search("spr", PageRequest.of(0, 10));
+        Page<Long> infix = index.search("uerydsl", PageRequest.of(0, 10));
+        Page<Long> twoChars = index.search("go", PageRequest.of(0, 10));
+        Page<Long> mixed = index.search("boo 입문", PageRequest.of(0, 10));
+
+        //then
+        assertThat(prefix.getContent()).containsExactly(1L);
+        assertThat(infix.getContent()).containsExactly(1L);
+        assertThat(twoChars.getContent()).containsExactly(2L);
+        assertThat(mixed.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    void search_한글_영문_혼합_검색어() {
+        //given
+        index.index(1L, "JPA와 스프링", "Querydsl 동적 쿼리");
+        index.index(2L, "스프링 시큐리티", "jwt 인증");
+
+        //when
+        Page<Long> result = index.search("jpa 스프링", PageRequest.of(0, 10));
+
+        //then
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+}
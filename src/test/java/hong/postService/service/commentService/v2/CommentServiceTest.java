@@ -13,11 +13,16 @@ import hong.postService.repository.memberRepository.v2.MemberRepository;
 import hong.postService.repository.postRepository.v2.PostRepository;
 import hong.postService.service.commentService.dto.CommentCreateRequest;
 import hong.postService.service.commentService.dto.CommentResponse;
+import hong.postService.service.commentService.dto.CommentTreeResponse;
 import hong.postService.service.commentService.dto.CommentUpdateRequest;
+import hong.postService.service.cursor.CursorResponse;
 import hong.postService.service.memberService.v2.MemberService;
 import hong.postService.service.postService.dto.PostCreateRequest;
 import hong.postService.service.postService.v2.PostService;
 import hong.postService.service.memberService.dto.UserCreateRequest;
+import hong.postService.service.postService.dto.PostSummaryResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +33,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -48,6 +54,8 @@ class CommentServiceTest {
     PostService postService;
     @Autowired
     PostRepository postRepository;
+    @Autowired
+    EntityManager em;
 
     @Test
     void write_memberId와_postId가_null이_아니면_정상_수행하고_id_반환() {
@@ -104,7 +112,7 @@ class CommentServiceTest {
             Long replyId = commentService.writeReply(commentId, memberId, new CommentCreateRequest("reply" + i));
 
             if (i == 49) commentService.getComment(replyId).remove();
-            if (i == 50) commentService.getComment(commentId).remove();
+            if (i == 50) commentService.delete(commentId);
         }
 
         //when
@@ -225,4 +233,212 @@ class CommentServiceTest {
 
         assertThat(comments).doesNotContain(comment, reply);
     }
-}
\ No newline at end of file
+
+    @Test
+    void write_delete_게시글_댓글_카운터가_원자적으로_갱신됨() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long commentId1 = commentService.write(postId, memberId, new CommentCreateRequest("comment1"));
+        commentService.write(postId, memberId, new CommentCreateRequest("comment2"));
+        commentService.writeReply(commentId1, memberId, new CommentCreateRequest("reply1"));
+
+        //when
+        commentService.delete(commentId1);
+        em.flush();
+        em.clear();
+
+        //then
+        PostSummaryResponse summary = postRepository.findSummaries(PageRequest.of(0, 10)).getContent().get(0);
+
+        assertThat(summary.getCommentCount()).isEqualTo(1);
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void write_writeReply_회원과_게시글과_부모_댓글의_댓글_컬렉션을_초기화하지_않음() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+        Long commentId = commentService.write(postId, memberId, new CommentCreateRequest("comment1"));
+
+        em.flush();
+        em.clear();
+
+        //when
+        commentService.write(postId, memberId, new CommentCreateRequest("comment2"));
+        commentService.writeReply(commentId, memberId, new CommentCreateRequest("reply"));
+
+        //then
+        assertThat(Hibernate.isInitialized(memberService.findMember(memberId).getComments())).isFalse();
+        assertThat(Hibernate.isInitialized(postService.getPost(postId).getComments())).isFalse();
+        assertThat(Hibernate.isInitialized(commentService.getComment(commentId).getChildComments())).isFalse();
+
+        em.flush();
+        em.clear();
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void delete_여러_단계의_대댓글까지_bulk_update로_삭제하고_카운터_반영() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long rootId = commentService.write(postId, memberId, new CommentCreateRequest("root"));
+        Long otherId = commentService.write(postId, memberId, new CommentCreateRequest("other"));
+
+        Long parentId = rootId;
+        for (int i = 1; i <= 5; i++) {
+            parentId = commentService.writeReply(parentId, memberId, new CommentCreateRequest("reply" + i));
+        }
+        Long deepestId = parentId;
+
+        //when
+        commentService.delete(rootId);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThatThrownBy(() -> commentService.getComment(rootId)).isInstanceOf(CommentNotFoundException.class);
+        assertThatThrownBy(() -> commentService.getComment(deepestId)).isInstanceOf(CommentNotFoundException.class);
+        assertThat(commentService.getComment(otherId).getContent()).isEqualTo("other");
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void delete_path가_없는_대댓글도_부모_링크를_따라_함께_삭제() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+        Long rootId = commentService.write(postId, memberId, new CommentCreateRequest("root"));
+
+        //path를 채우지 않고 저장 (backfill에서 path를 받지 못한 댓글)
+        Comment pathless = commentService.getComment(rootId).writeReply("pathless", memberService.findMember(memberId));
+        commentRepository.save(pathless);
+        postRepository.addCommentCount(postId, 1);
+        Long pathlessId = pathless.getId();
+        em.flush();
+        em.clear();
+
+        //when
+        commentService.delete(rootId);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThatThrownBy(() -> commentService.getComment(pathlessId)).isInstanceOf(CommentNotFoundException.class);
+        assertThat(postService.getPost(postId).getCommentCount()).isEqualTo(0);
+    }
+
+    @Test
+    void 게시글_삭제_시_댓글을_bulk_update로_함께_삭제() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long commentId = commentService.write(postId, memberId, new CommentCreateRequest("comment"));
+        Long replyId = commentService.writeReply(commentId, memberId, new CommentCreateRequest("reply"));
+
+        //when
+        postService.delete(postId);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(commentRepository.findById(commentId).orElseThrow().isRemoved()).isTrue();
+        assertThat(commentRepository.findById(replyId).orElseThrow().isRemoved()).isTrue();
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(0);
+    }
+
+    @Test
+    void getCommentTree_getCommentSubtree_대댓글을_중첩된_트리로_조회() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long c1 = commentService.write(postId, memberId, new CommentCreateRequest("c1"));
+        Long c2 = commentService.write(postId, memberId, new CommentCreateRequest("c2"));
+        Long r1 = commentService.writeReply(c1, memberId, new CommentCreateRequest("r1"));
+        Long r2 = commentService.writeReply(c1, memberId, new CommentCreateRequest("r2"));
+        Long rr1 = commentService.writeReply(r1, memberId, new CommentCreateRequest("rr1"));
+        commentService.writeReply(c2, memberId, new CommentCreateRequest("deleted"));
+
+        em.flush();
+        em.clear();
+        commentService.delete(commentService.getCommentTree(postId).get(1).getChildren().get(0).getId());
+
+        //when
+        List<CommentTreeResponse> tree = commentService.getCommentTree(postId);
+        CommentTreeResponse subtree = commentService.getCommentSubtree(r1);
+
+        //then
+        assertThat(tree).extracting(CommentTreeResponse::getId).containsExactly(c1, c2);
+        assertThat(tree.get(0).getChildren()).extracting(CommentTreeResponse::getId).containsExactly(r1, r2);
+        assertThat(tree.get(0).getChildren().get(0).getChildren()).extracting(CommentTreeResponse::getId).containsExactly(rr1);
+        assertThat(tree.get(1).getChildren()).isEmpty();
+
+        assertThat(subtree.getId()).isEqualTo(r1);
+        assertThat(subtree.getChildren()).extracting(CommentTreeResponse::getContent).containsExactly("rr1");
+    }
+
+    @Test
+    void getCommentsByPostByCursor_getCommentsByParentCommentByCursor_커서로_끝까지_중복_없이_조회() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long parentId = commentService.write(postId, memberId, new CommentCreateRequest("parent"));
+        for (int i = 1; i <= 24; i++) {
+            commentService.writeReply(parentId, memberId, new CommentCreateRequest("reply" + i));
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        List<Long> commentIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<CommentResponse> page = commentService.getCommentsByPostByCursor(postId, cursor, 10);
+            page.getContent().forEach(c -> commentIds.add(c.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        CursorResponse<CommentResponse> firstReplies = commentService.getCommentsByParentCommentByCursor(parentId, null, 20);
+        CursorResponse<CommentResponse> lastReplies = commentService.getCommentsByParentCommentByCursor(parentId, firstReplies.getNextCursor(), 20);
+
+        //then
+        assertThat(commentIds).hasSize(25).doesNotHaveDuplicates();
+        assertThat(commentIds.get(0)).isEqualTo(parentId);
+
+        assertThat(firstReplies.getContent()).hasSize(20);
+        assertThat(firstReplies.isHasNext()).isTrue();
+        assertThat(lastReplies.getContent()).extracting(CommentResponse::getContent).containsExactly("reply21", "reply22", "reply23", "reply24");
+        assertThat(lastReplies.getNextCursor()).isNull();
+    }
+
+    @Test
+    void replyCount_대댓글_작성과_삭제가_직속_부모의_카운터에_반영됨() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Long postId = postService.write(memberId, new PostCreateRequest("title", "content", null));
+
+        Long commentId = commentService.write(postId, memberId, new CommentCreateRequest("comment"));
+        Long reply1 = commentService.writeReply(commentId, memberId, new CommentCreateRequest("reply1"));
+        commentService.writeReply(commentId, memberId, new CommentCreateRequest("reply2"));
+        commentService.writeReply(reply1, memberId, new CommentCreateRequest("nested"));
+
+        //when
+        commentService.delete(reply1);
+        em.flush();
+        em.clear();
+
+        //then
+        CursorResponse<CommentResponse> page = commentService.getCommentsByPostByCursor(postId, null, 50);
+
+        assertThat(page.getContent()).extracting(CommentResponse::getContent).containsExactly("comment", "reply2");
+        assertThat(page.getContent()).extracting(CommentResponse::getReplyCount).containsExactly(1, 0);
+    }
+}
@@ -0,0 +1,73 @@
+package hong.postService.service.fileService.cache;
+
+import hong.postService.service.fileService.dto.DownloadUrlResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DownloadUrlCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    DownloadUrlCache cache;
+    AtomicInteger signs;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new DownloadUrlCache(meterRegistry, 100, Duration.ofMinutes(1));
+        signs = new AtomicInteger();
+    }
+
+    private DownloadUrlResponse sign(Long fileId, Duration ttl) {
+        signs.incrementAndGet();
+        return new DownloadUrlResponse("http://example.com/" + fileId, Instant.now().plus(ttl));
+    }
+
+    @Test
+    void get_만료_여유가_남아있으면_같은_URL_재사용() {
+        //when
+        DownloadUrlResponse first = cache.get(1L, id -> sign(id, Duration.ofMinutes(5)));
+        DownloadUrlResponse second = cache.get(1L, id -> sign(id, Duration.ofMinutes(5)));
+
+        //then
+        assertThat(signs.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void get_곧_만료될_URL은_캐시하지_않음() {
+        //when
+        cache.get(1L, id -> sign(id, Duration.ofSeconds(30)));
+        cache.get(1L, id -> sign(id, Duration.ofSeconds(30)));
+
+        //then
+        assertThat(signs.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getAll_캐시에_없는_파일만_한번에_서명() {
+        //given
+        cache.get(1L, id -> sign(id, Duration.ofMinutes(5)));
+        List<Set<? extends Long>> requested = new ArrayList<>();
+
+        //when
+        Map<Long, DownloadUrlResponse> urls = cache.getAll(List.of(1L, 2L, 3L), missing -> {
+            requested.add(Set.copyOf(missing));
+            Map<Long, DownloadUrlResponse> signed = new HashMap<>();
+            for (Long id : missing) signed.put(id, sign(id, Duration.ofMinutes(5)));
+            return signed;
+        });
+
+        //then
+        assertThat(urls).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(requested).containsExactly(Set.of(2L, 3L));
+        assertThat(signs.get()).isEqualTo(3);
+    }
+}
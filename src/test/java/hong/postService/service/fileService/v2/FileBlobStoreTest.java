@@ -0,0 +1,118 @@
+package hong.postService.service.fileService.v2;
+
+import hong.postService.domain.File;
+import hong.postService.domain.FileBlob;
+import hong.postService.repository.blobRepository.v2.FileBlobRepository;
+import hong.postService.repository.fileRepository.v2.FileRepository;
+import hong.postService.service.fileService.dto.ContentHash;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FileBlobStoreTest {
+
+    FileRepository fileRepository = Mockito.mock(FileRepository.class);
+    FileBlobRepository fileBlobRepository = Mockito.mock(FileBlobRepository.class);
+    StorageDeleteOutboxService storageDeleteOutboxService = Mockito.mock(StorageDeleteOutboxService.class);
+    FileBlobStore fileBlobStore = new FileBlobStore(true, fileRepository, fileBlobRepository, storageDeleteOutboxService);
+
+    @Test
+    void link_같은_내용의_blob이_있으면_참조_수를_올리고_파일_자신의_오브젝트는_삭제() {
+        //given
+        File file = mock(File.class);
+        when(file.getS3Key()).thenReturn("post/1/a.txt");
+        when(fileRepository.findUnlinkedForUpdate(1L)).thenReturn(Optional.of(file));
+
+        FileBlob existing = mock(FileBlob.class);
+        when(existing.getId()).thenReturn(10L);
+        when(fileBlobRepository.findBySha256("aaa")).thenReturn(Optional.of(existing));
+        when(fileBlobRepository.addRefCount(10L, 1)).thenReturn(1);
+
+        //when
+        boolean linked = fileBlobStore.link(1L, new ContentHash("aaa", 3));
+
+        //then
+        assertThat(linked).isTrue();
+        verify(file).linkBlob(existing);
+        verify(storageDeleteOutboxService).enqueue(List.of("post/1/a.txt"));
+        verify(fileBlobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void link_새_내용이면_파일_자신의_오브젝트를_storageKey로_blob_생성() {
+        //given
+        File file = mock(File.class);
+        when(file.getS3Key()).thenReturn("post/1/a.txt");
+        when(fileRepository.findUnlinkedForUpdate(1L)).thenReturn(Optional.of(file));
+        when(fileBlobRepository.findBySha256("bbb")).thenReturn(Optional.empty());
+
+        //when
+        fileBlobStore.link(1L, new ContentHash("bbb", 5));
+
+        //then
+        ArgumentCaptor<FileBlob> created = ArgumentCaptor.forClass(FileBlob.class);
+        verify(fileBlobRepository).saveAndFlush(created.capture());
+        assertThat(created.getValue().getStorageKey()).isEqualTo("post/1/a.txt");
+        assertThat(created.getValue().getRefCount()).isEqualTo(1);
+        verify(file).linkBlob(created.getValue());
+        verifyNoInteractions(storageDeleteOutboxService);
+    }
+
+    @Test
+    void link_그_사이_기존_blob이_삭제됐으면_새_blob_생성() {
+        //given
+        File file = mock(File.class);
+        when(file.getS3Key()).thenReturn("post/1/a.txt");
+        when(fileRepository.findUnlinkedForUpdate(1L)).thenReturn(Optional.of(file));
+
+        FileBlob purged = mock(FileBlob.class);
+        when(purged.getId()).thenReturn(10L);
+        when(fileBlobRepository.findBySha256("aaa")).thenReturn(Optional.of(purged));
+        when(fileBlobRepository.addRefCount(10L, 1)).thenReturn(0);
+
+        //when
+        fileBlobStore.link(1L, new ContentHash("aaa", 3));
+
+        //then
+        verify(fileBlobRepository).saveAndFlush(any());
+        verify(file, never()).linkBlob(purged);
+    }
+
+    @Test
+    void link_삭제되었거나_이미_연결된_파일은_건너뜀() {
+        //given
+        when(fileRepository.findUnlinkedForUpdate(1L)).thenReturn(Optional.empty());
+
+        //when
+        boolean linked = fileBlobStore.link(1L, new ContentHash("aaa", 3));
+
+        //then
+        assertThat(linked).isFalse();
+        verifyNoInteractions(fileBlobRepository, storageDeleteOutboxService);
+    }
+
+    @Test
+    void release_마지막_참조가_사라진_blob의_오브젝트만_반환() {
+        //given
+        FileBlob unreferenced = FileBlob.of("aaa", "post/1/a.txt", 3, 0);
+        when(fileBlobRepository.findUnreferencedForUpdate(any())).thenReturn(List.of(unreferenced));
+
+        //when
+        List<String> keys = fileBlobStore.release(Map.of(10L, 2, 20L, 1));
+
+        //then
+        verify(fileBlobRepository).addRefCount(10L, -2);
+        verify(fileBlobRepository).addRefCount(20L, -1);
+        verify(fileBlobRepository).deleteAllInBatch(List.of(unreferenced));
+        assertThat(keys).containsExactly("post/1/a.txt");
+    }
+}
@@ -0,0 +1,62 @@
+package hong.postService.service.fileService.v2;
+
+import hong.postService.service.fileService.dto.FilePromotion;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.storage.ObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FilePromoterTest {
+
+    ObjectStorage objectStorage = Mockito.mock(ObjectStorage.class);
+    StorageDeleteOutboxService storageDeleteOutboxService = Mockito.mock(StorageDeleteOutboxService.class);
+    FilePromoter filePromoter = new FilePromoter(objectStorage, storageDeleteOutboxService, 4, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        filePromoter.shutdown();
+    }
+
+    @Test
+    void copyAll_모든_파일을_최종_경로로_복사() {
+        //given
+        List<FilePromotion> promotions = List.of(
+                new FilePromotion("a.txt", "post/tmp/a.txt", "post/1/a.txt"),
+                new FilePromotion("b.txt", "post/tmp/b.txt", "post/1/b.txt"),
+                new FilePromotion("c.txt", "post/tmp/c.txt", "post/1/c.txt"));
+
+        //when
+        filePromoter.copyAll(promotions);
+
+        //then
+        for (FilePromotion promotion : promotions) {
+            verify(objectStorage).copy(promotion.getTmpS3Key(), promotion.getFinalS3Key());
+        }
+        verifyNoInteractions(storageDeleteOutboxService);
+    }
+
+    @Test
+    void copyAll_하나라도_실패하면_복사된_오브젝트의_삭제를_기록하고_예외() {
+        //given
+        doThrow(new IllegalStateException("copy failed"))
+                .when(objectStorage).copy("post/tmp/b.txt", "post/1/b.txt");
+
+        List<FilePromotion> promotions = List.of(
+                new FilePromotion("a.txt", "post/tmp/a.txt", "post/1/a.txt"),
+                new FilePromotion("b.txt", "post/tmp/b.txt", "post/1/b.txt"));
+
+        //when //then
+        assertThatThrownBy(() -> filePromoter.copyAll(promotions)).isInstanceOf(IllegalStateException.class);
+
+        verify(storageDeleteOutboxService).enqueueInNewTransaction(List.of("post/1/a.txt"));
+        verify(objectStorage, never()).deleteAll(any());
+    }
+}
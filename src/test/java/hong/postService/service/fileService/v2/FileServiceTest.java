@@ -0,0 +1,77 @@
+package hong.postService.service.fileService.v2;
+
+import hong.postService.repository.fileRepository.v2.FileRepository;
+import hong.postService.repository.postRepository.v2.PostRepository;
+import hong.postService.service.fileService.cache.DownloadUrlCache;
+import hong.postService.service.fileService.dto.FileZipEntry;
+import hong.postService.service.outboxService.v2.StorageDeleteOutboxService;
+import hong.postService.storage.ObjectStorage;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FileServiceTest {
+
+    ObjectStorage objectStorage = Mockito.mock(ObjectStorage.class);
+    FileService fileService = new FileService(
+            Mockito.mock(FileRepository.class),
+            Mockito.mock(PostRepository.class),
+            Mockito.mock(StorageDeleteOutboxService.class),
+            objectStorage,
+            Mockito.mock(DownloadUrlCache.class),
+            Mockito.mock(FileBlobStore.class));
+
+    @Test
+    void writeZip_스토리지의_파일들을_ZIP_엔트리로_스트리밍() throws Exception {
+        //given
+        when(objectStorage.open("post/1/a.txt")).thenReturn(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+        when(objectStorage.open("post/1/b.txt")).thenReturn(new ByteArrayInputStream("안녕".getBytes(StandardCharsets.UTF_8)));
+
+        List<FileZipEntry> entries = List.of(
+                new FileZipEntry("a.txt", "post/1/a.txt"),
+                new FileZipEntry("보고서.txt", "post/1/b.txt"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        fileService.writeZip(entries, out);
+
+        //then
+        List<String> names = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                contents.add(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        assertThat(names).containsExactly("a.txt", "보고서.txt");
+        assertThat(contents).containsExactly("hello", "안녕");
+    }
+
+    @Test
+    void writeZip_읽은_스트림은_모두_닫음() throws Exception {
+        //given
+        InputStream in = spy(new ByteArrayInputStream(new byte[1024 * 1024]));
+        when(objectStorage.open("post/1/big.bin")).thenReturn(in);
+
+        //when
+        fileService.writeZip(List.of(new FileZipEntry("big.bin", "post/1/big.bin")), new ByteArrayOutputStream());
+
+        //then
+        verify(in).close();
+    }
+}
@@ -0,0 +1,77 @@
+package hong.postService.service.postService.cache;
+
+import hong.postService.exception.post.PostNotFoundException;
+import hong.postService.service.postService.dto.PostDetailResponse;
+import hong.postService.service.postService.event.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostDetailCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    PostDetailCache cache;
+    AtomicInteger loads;
+    Function<Long, PostDetailResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PostDetailCache(meterRegistry, 100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        loader = id -> {
+            int n = loads.incrementAndGet();
+            return new PostDetailResponse(id, "title" + n, "content", "nickname", LocalDateTime.now(), LocalDateTime.now(), List.of());
+        };
+    }
+
+    @Test
+    void get_두번째_조회부터는_캐시에서_반환() {
+        //when
+        PostDetailResponse first = cache.get(1L, loader);
+        PostDetailResponse second = cache.get(1L, loader);
+
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "postDetail").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void onPostChanged_해당_게시글만_다시_조회() {
+        //given
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        //when
+        cache.onPostChanged(new PostChangedEvent(1L, PostChangedEvent.Type.UPDATED, "new", "new"));
+
+        //then
+        assertThat(cache.get(1L, loader).getTitle()).isEqualTo("title3");
+        assertThat(cache.get(2L, loader).getTitle()).isEqualTo("title2");
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_loader_예외는_캐시되지_않음() {
+        //given
+        Function<Long, PostDetailResponse> notFound = id -> {
+            loads.incrementAndGet();
+            throw new PostNotFoundException(id);
+        };
+
+        //when //then
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(PostNotFoundException.class);
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(PostNotFoundException.class);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
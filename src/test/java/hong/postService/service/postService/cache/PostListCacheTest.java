@@ -0,0 +1,77 @@
+package hong.postService.service.postService.cache;
+
+import hong.postService.service.postService.dto.PostSummaryResponse;
+import hong.postService.service.postService.event.PostChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostListCacheTest {
+
+    PostListCache cache;
+    AtomicInteger loads;
+    Function<Pageable, Page<PostSummaryResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostListCache(new SimpleMeterRegistry(), 2, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        loader = pageable -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), pageable, 0);
+        };
+    }
+
+    @Test
+    void get_앞쪽_페이지만_캐시() {
+        //given
+        PageRequest first = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate"));
+        PageRequest deep = PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "createdDate"));
+
+        //when
+        cache.get(first, loader);
+        cache.get(first, loader);
+        cache.get(deep, loader);
+        cache.get(deep, loader);
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_정렬이_다르면_다른_항목() {
+        //when
+        cache.get(PageRequest.of(0, 10, Sort.by("createdDate")), loader);
+        cache.get(PageRequest.of(0, 10, Sort.by("title")), loader);
+
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void onPostChanged_모든_페이지_무효화() {
+        //given
+        cache.get(PageRequest.of(0, 10), loader);
+        cache.get(PageRequest.of(1, 10), loader);
+
+        //when
+        cache.onPostChanged(PostChangedEvent.deleted(1L));
+        cache.get(PageRequest.of(0, 10), loader);
+        cache.get(PageRequest.of(1, 10), loader);
+
+        //then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+}
@@ -1,5 +1,6 @@
 package hong.postService.service.postService.v2;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.model.CopyObjectResult;
 import hong.postService.TestS3Config;
 import hong.postService.TestSecurityConfig;
@@ -166,6 +167,35 @@ class PostServiceTest {
         assertThatThrownBy(() -> postService.write(memberId, new PostCreateRequest("title", "content", fileCreateRequests)))
                 .isInstanceOf(InvalidFileFieldException.class);
     }
+    @Test
+    void write_파일_복사가_실패하면_게시글은_숨긴_채로_남음() {
+        //given
+        Long memberId = memberService.signUp(new UserCreateRequest("user", "p", "e@naver.com", "nickname", UserRole.USER));
+        Mockito.doThrow(new AmazonServiceException("copy failed"))
+                .when(amazonS3Client).copyObject(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        List<FileCreateRequest> files = List.of(new FileCreateRequest("example.txt", "post/tmp/abc123.txt"));
+
+        //when
+        try {
+            assertThatThrownBy(() -> postService.write(memberId, new PostCreateRequest("hidden-title", "content1", files)))
+                    .isInstanceOf(AmazonServiceException.class);
+        } finally {
+            Mockito.doReturn(new CopyObjectResult())
+                    .when(amazonS3Client).copyObject(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        }
+        flushAndClear();
+
+        //then
+        List<Post> posts = postRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("hidden-title"))
+                .toList();
+        assertThat(posts).hasSize(1);
+        assertThat(posts.get(0).isRemoved()).isTrue();
+        assertThatThrownBy(() -> postService.getPost(posts.get(0).getId()))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
     @Test
     void getPost_post가_존재하면_정상_반환() {
         //given
@@ -0,0 +1,188 @@
+package hong.postService.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage() {
+        return new LocalObjectStorage(root, "http://localhost:8080", "secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(LocalObjectStorage storage, String key) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        storage.transferTo(key, Channels.newChannel(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void write_transferTo_쓴_내용을_그대로_읽음() {
+        //given
+        LocalObjectStorage storage = storage();
+
+        //when
+        long written = storage.write("post/tmp/a.txt", new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        assertThat(written).isEqualTo(5);
+        assertThat(storage.size("post/tmp/a.txt")).isEqualTo(5);
+        assertThat(read(storage, "post/tmp/a.txt")).isEqualTo("hello");
+    }
+
+    @Test
+    void copy_tmp에서_최종_경로로_승격하고_tmp를_지워도_유지() {
+        //given
+        LocalObjectStorage storage = storage();
+        storage.write("post/tmp/a.txt", new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        //when
+        storage.copy("post/tmp/a.txt", "post/1/a.txt");
+        storage.delete("post/tmp/a.txt");
+
+        //then
+        assertThat(storage.exists("post/tmp/a.txt")).isFalse();
+        assertThat(read(storage, "post/1/a.txt")).isEqualTo("hello");
+    }
+
+    @Test
+    void list_deleteAll_prefix로_조회하고_한번에_삭제() {
+        //given
+        LocalObjectStorage storage = storage();
+        for (String key : List.of("post/tmp/a.txt", "post/tmp/b.txt", "post/1/c.txt")) {
+            storage.write(key, new ByteArrayInputStream(new byte[]{1}));
+        }
+
+        //when
+        List<String> tmpKeys = storage.list("post/tmp/");
+        Map<String, String> failed = storage.deleteAll(tmpKeys);
+
+        //then
+        assertThat(tmpKeys).containsExactly("post/tmp/a.txt", "post/tmp/b.txt");
+        assertThat(failed).isEmpty();
+        assertThat(storage.list("post/")).containsExactly("post/1/c.txt");
+    }
+
+    @Test
+    void listPage_하위_디렉토리를_포함해_키_오름차순으로_이어서_조회() {
+        //given
+        LocalObjectStorage storage = storage();
+        for (String key : List.of("post/2/a.txt", "post/1/b.txt", "post/10/a.txt", "post/1.txt", "post/1/a.txt")) {
+            storage.write(key, new ByteArrayInputStream(new byte[]{1}));
+        }
+
+        //when
+        ObjectPage page1 = storage.listPage("post/", null, 2);
+        ObjectPage page2 = storage.listPage("post/", page1.getNextStartAfter(), 2);
+        ObjectPage page3 = storage.listPage("post/", page2.getNextStartAfter(), 2);
+
+        //then
+        assertThat(page1.getObjects()).extracting(StoredObject::getKey).containsExactly("post/1.txt", "post/1/a.txt");
+        assertThat(page2.getObjects()).extracting(StoredObject::getKey).containsExactly("post/1/b.txt", "post/10/a.txt");
+        assertThat(page3.getObjects()).extracting(StoredObject::getKey).containsExactly("post/2/a.txt");
+        assertThat(page3.hasNext()).isFalse();
+    }
+
+    @Test
+    void root_밖을_가리키는_키는_거부() {
+        //given
+        LocalObjectStorage storage = storage();
+
+        //when //then
+        assertThatThrownBy(() -> storage.delete("../outside.txt")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.delete("/etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_presign_URL의_서명과_만료를_검증() {
+        //given
+        LocalObjectStorage storage = storage();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        //when
+        URL url = storage.presignUpload("post/tmp/a.txt", expiresAt);
+        String signature = url.getQuery().substring(url.getQuery().indexOf("signature=") + "signature=".length());
+
+        //then
+        assertThat(url.getPath()).isEqualTo(LocalObjectStorage.ENDPOINT);
+        assertThat(storage.verify("PUT", "post/tmp/a.txt", expiresAt.getEpochSecond(), null, signature)).isTrue();
+        assertThat(storage.verify("GET", "post/tmp/a.txt", expiresAt.getEpochSecond(), null, signature)).isFalse();
+        assertThat(storage.verify("PUT", "post/tmp/b.txt", expiresAt.getEpochSecond(), null, signature)).isFalse();
+        assertThat(storage.verify("PUT", "post/tmp/a.txt", Instant.now().minusSeconds(1).getEpochSecond(), null, signature)).isFalse();
+    }
+
+    @Test
+    void multipart_파트를_순서대로_이어_하나의_오브젝트로_완성() {
+        //given
+        LocalObjectStorage storage = storage();
+        String uploadId = storage.initiateMultipartUpload("post/tmp/big.bin");
+
+        //파트는 순서와 무관하게 올라오고, 실패한 파트는 다시 올릴 수 있음
+        String eTag2 = storage.writePart("post/tmp/big.bin", uploadId, 2, new ByteArrayInputStream("world".getBytes(StandardCharsets.UTF_8)));
+        storage.writePart("post/tmp/big.bin", uploadId, 1, new ByteArrayInputStream("broken".getBytes(StandardCharsets.UTF_8)));
+        String eTag1 = storage.writePart("post/tmp/big.bin", uploadId, 1, new ByteArrayInputStream("hello ".getBytes(StandardCharsets.UTF_8)));
+
+        //when
+        storage.completeMultipartUpload("post/tmp/big.bin", uploadId,
+                List.of(new UploadedPart(1, eTag1), new UploadedPart(2, eTag2)));
+
+        //then
+        assertThat(read(storage, "post/tmp/big.bin")).isEqualTo("hello world");
+        assertThat(storage.list("")).containsExactly("post/tmp/big.bin");
+    }
+
+    @Test
+    void multipart_ETag가_다르거나_다른_키로_완성하면_거부() {
+        //given
+        LocalObjectStorage storage = storage();
+        String uploadId = storage.initiateMultipartUpload("post/tmp/big.bin");
+        String eTag = storage.writePart("post/tmp/big.bin", uploadId, 1, new ByteArrayInputStream(new byte[]{1}));
+
+        //when //then
+        assertThatThrownBy(() -> storage.completeMultipartUpload("post/tmp/big.bin", uploadId, List.of(new UploadedPart(1, "\"other\""))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.completeMultipartUpload("post/tmp/other.bin", uploadId, List.of(new UploadedPart(1, eTag))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        storage.abortMultipartUpload("post/tmp/big.bin", uploadId);
+        assertThatThrownBy(() -> storage.writePart("post/tmp/big.bin", uploadId, 1, new ByteArrayInputStream(new byte[]{1})))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void abortMultipartUploadsBefore_마지막_파트_이후_유예_기간이_지난_업로드만_취소() throws IOException {
+        //given
+        LocalObjectStorage storage = storage();
+        String stale = storage.initiateMultipartUpload("post/tmp/stale.bin");
+        String active = storage.initiateMultipartUpload("post/tmp/active.bin");
+        storage.writePart("post/tmp/active.bin", active, 1, new ByteArrayInputStream(new byte[]{1}));
+
+        Files.setLastModifiedTime(root.resolve(".multipart").resolve(stale), FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        //when
+        int aborted = storage.abortMultipartUploadsBefore("post/tmp/", Instant.now().minus(Duration.ofDays(1)));
+
+        //then
+        assertThat(aborted).isEqualTo(1);
+        assertThat(root.resolve(".multipart").resolve(stale)).doesNotExist();
+        assertThat(root.resolve(".multipart").resolve(active)).exists();
+    }
+}
@@ -0,0 +1,39 @@
+package hong.postService.web.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+
+    JwtUtil jwtUtil = new JwtUtil("vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalHongfjdkfjd");
+
+    @Test
+    void parse_한번에_모든_claim_반환() {
+        //given
+        String token = jwtUtil.createJwt(1L, "user", "ROLE_USER", 60_000L);
+
+        //when
+        JwtClaims claims = jwtUtil.parse(token);
+
+        //then
+        assertThat(claims.getUserId()).isEqualTo(1L);
+        assertThat(claims.getUsername()).isEqualTo("user");
+        assertThat(claims.getRole()).isEqualTo("ROLE_USER");
+        assertThat(claims.getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    void parse_만료되거나_위조된_토큰이면_예외() {
+        //given
+        String expired = jwtUtil.createJwt(1L, "user", "ROLE_USER", -1_000L);
+        String forged = new JwtUtil("otherSecretotherSecretotherSecretotherSecret1234")
+                .createJwt(1L, "user", "ROLE_ADMIN", 60_000L);
+
+        //when //then
+        assertThatThrownBy(() -> jwtUtil.parse(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.parse(forged)).isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package hong.postService.web.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hong.postService.exception.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SecurityJsonMapperTest {
+
+    SecurityJsonMapper securityJsonMapper = new SecurityJsonMapper(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    @Test
+    void readLoginRequest() throws Exception {
+        //given
+        byte[] body = "{\"username\":\"user\",\"password\":\"p\"}".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        LoginRequest loginRequest = securityJsonMapper.readLoginRequest(new ByteArrayInputStream(body));
+
+        //then
+        assertThat(loginRequest.getUsername()).isEqualTo("user");
+        assertThat(loginRequest.getPassword()).isEqualTo("p");
+    }
+
+    @Test
+    void writeError_상태코드와_JSON_본문_작성() throws Exception {
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        securityJsonMapper.writeError(response, new ErrorResponse(401, "JWT_EXPIRED", "토큰이 만료되었습니다."));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"errorCode\":\"JWT_EXPIRED\"")
+                .contains("토큰이 만료되었습니다.");
+    }
+}
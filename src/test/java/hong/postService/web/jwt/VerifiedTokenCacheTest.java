@@ -0,0 +1,40 @@
+package hong.postService.web.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    JwtUtil jwtUtil = Mockito.spy(new JwtUtil("vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalHongfjdkfjd"));
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 100);
+
+    @Test
+    void getOrParse_같은_토큰은_한번만_검증() {
+        //given
+        String token = jwtUtil.createJwt(1L, "user", "ROLE_USER", 60_000L);
+
+        //when
+        JwtClaims first = cache.getOrParse(token);
+        JwtClaims second = cache.getOrParse(token);
+
+        //then
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).parse(token);
+    }
+
+    @Test
+    void getOrParse_만료된_토큰은_캐시하지_않고_예외() {
+        //given
+        String expired = jwtUtil.createJwt(1L, "user", "ROLE_USER", -1_000L);
+
+        //when //then
+        assertThatThrownBy(() -> cache.getOrParse(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> cache.getOrParse(expired)).isInstanceOf(ExpiredJwtException.class);
+        verify(jwtUtil, times(2)).parse(expired);
+    }
+}
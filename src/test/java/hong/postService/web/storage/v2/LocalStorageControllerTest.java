@@ -0,0 +1,74 @@
+package hong.postService.web.storage.v2;
+
+import hong.postService.storage.LocalObjectStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalStorageControllerTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage() {
+        LocalObjectStorage storage = new LocalObjectStorage(root, "http://localhost:8080", "secret".getBytes(StandardCharsets.UTF_8));
+        storage.write("post/1/a.txt", new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+        return storage;
+    }
+
+    private static String signature(URL url) {
+        return url.getQuery().substring(url.getQuery().indexOf("signature=") + "signature=".length());
+    }
+
+    @Test
+    void download_sendfile을_지원하면_파일_경로만_넘기고_본문은_쓰지_않음() throws IOException {
+        //given
+        LocalObjectStorage storage = storage();
+        LocalStorageController controller = new LocalStorageController(storage);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        URL url = storage.presignDownload("post/1/a.txt", expiresAt, null);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        controller.download("post/1/a.txt", expiresAt.getEpochSecond(), null, signature(url), request, response);
+
+        //then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(storage.path("post/1/a.txt").toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(5L);
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void download_sendfile을_지원하지_않으면_응답_스트림으로_복사() throws IOException {
+        //given
+        LocalObjectStorage storage = storage();
+        LocalStorageController controller = new LocalStorageController(storage);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        URL url = storage.presignDownload("post/1/a.txt", expiresAt, null);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        controller.download("post/1/a.txt", expiresAt.getEpochSecond(), null, signature(url), request, response);
+
+        //then
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+}